@@ -0,0 +1,133 @@
+package com.github.labai.utils.keylock.bench;
+
+import com.github.labai.utils.keylock.KeyLockConnProviderDb;
+import com.github.labai.utils.keylock.KeyLockConnProviderLocal;
+import com.github.labai.utils.keylock.KeyLockManager;
+import com.github.labai.utils.keylock.LockedResourceException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * KeyLockManager.runLocked (empty task) with db stand-in (LatencyLockDao) or in-memory provider (local)
+ *   - keys: disjoint (own keys per thread), hot (4 keys for all), zipf (10000 keys)
+ *   - latencyMicros - db round trip (db only)
+ *   - contention - fraction of keys held by other instance (db only)
+ * Throughput (ops/s) and sample time (latency percentiles) modes, allocation with -prof gc.
+ * Contended calls (LockedResourceException) are counted as ops too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeyLockBenchmark {
+    private static final int SAMPLES = 1 << 16;
+    private static final int ZIPF_KEYS = 10_000;
+    private static final int HOT_KEYS = 4;
+
+    @Param({"db", "local"})
+    String provider;
+
+    @Param({"disjoint", "hot", "zipf"})
+    String keys;
+
+    @Param({"0", "100"})
+    long latencyMicros;
+
+    @Param({"0.0"})
+    double contention;
+
+    private KeyLockManager manager;
+    private int[] zipfKeys;
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int thread = -1;
+        int pos;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LatencyLockDao dao = new LatencyLockDao(TimeUnit.MICROSECONDS.toNanos(latencyMicros), contention);
+        manager = "local".equals(provider)
+            ? new KeyLockManager(new KeyLockConnProviderLocal())
+            : new KeyLockManager(new KeyLockConnProviderDb(dao.dataSource(), dao));
+        Random random = new Random(42);
+        Zipf zipf = new Zipf(ZIPF_KEYS, 1.0);
+        zipfKeys = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            zipfKeys[i] = zipf.next(random);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads1(Cursor c) {
+        return lock(c);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads4(Cursor c) {
+        return lock(c);
+    }
+
+    private boolean lock(Cursor c) {
+        if (c.thread < 0)
+            c.thread = threadCounter.getAndIncrement();
+        int pos = c.pos++;
+        int keyId;
+        switch (keys) {
+            case "disjoint":
+                keyId = c.thread * SAMPLES + (pos & (SAMPLES - 1));
+                break;
+            case "hot":
+                keyId = pos % HOT_KEYS;
+                break;
+            default:
+                keyId = zipfKeys[(pos + c.thread * 7919) & (SAMPLES - 1)];
+        }
+        try {
+            return manager.runLocked(1, keyId, () -> true);
+        } catch (LockedResourceException e) {
+            return false;
+        }
+    }
+
+    // Zipf distribution over ranks 0..n-1 (inverse cdf)
+    static class Zipf {
+        private final double[] cdf;
+
+        Zipf(int n, double s) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, s);
+                cdf[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int next(Random random) {
+            int idx = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(idx < 0 ? -idx - 1 : idx, cdf.length - 1);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.github.labai.utils.keylock.bench;
+
+import com.github.labai.utils.keylock.IKeyLockDaoProvider;
+
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * stand-in for db: advisory locks (per connection, reentrant) in memory,
+ * each call waits roundTripNanos (parked, like waiting for network).
+ * Keys with hash below 'contention' fraction are held by other instance - tryLock fails.
+ */
+class LatencyLockDao implements IKeyLockDaoProvider {
+    private final long roundTripNanos;
+    private final double contention;
+    private final ConcurrentHashMap<Long, Connection> locks = new ConcurrentHashMap<>();
+
+    LatencyLockDao(long roundTripNanos, double contention) {
+        this.roundTripNanos = roundTripNanos;
+        this.contention = contention;
+    }
+
+    @Override
+    public boolean tryLock(Connection conn, int sysId, int keyId) {
+        roundTrip();
+        long key = key(sysId, keyId);
+        if (heldByOther(key))
+            return false;
+        Connection holder = locks.putIfAbsent(key, conn);
+        return holder == null || holder == conn;
+    }
+
+    @Override
+    public void unlock(Connection conn, int sysId, int keyId) {
+        roundTrip();
+        locks.remove(key(sysId, keyId), conn);
+    }
+
+    @Override
+    public void unlockAll(Connection conn) {
+        roundTrip();
+        locks.values().removeIf(c -> c == conn);
+    }
+
+    DataSource dataSource() {
+        return new LatencyDataSource();
+    }
+
+    private void roundTrip() {
+        if (roundTripNanos > 0)
+            LockSupport.parkNanos(roundTripNanos);
+    }
+
+    private boolean heldByOther(long key) {
+        if (contention <= 0)
+            return false;
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (h >>> 11) * 0x1.0p-53 < contention;
+    }
+
+    private static long key(int sysId, int keyId) {
+        return ((long) sysId << 32) | (keyId & 0xffffffffL);
+    }
+
+    // connection open costs one round trip
+    private class LatencyDataSource implements DataSource {
+        @Override
+        public Connection getConnection() {
+            roundTrip();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "hashCode": return System.identityHashCode(proxy);
+                    case "equals": return proxy == args[0];
+                    case "isClosed": return false;
+                    default: return null;
+                }
+            });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
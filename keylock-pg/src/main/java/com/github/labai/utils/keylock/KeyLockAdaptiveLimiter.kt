@@ -0,0 +1,128 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.time.Duration
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Adaptive (AIMD) limit of lock attempts in flight, for KeyLockConnProviderDb.
+ *
+ * Round trip of attempt (incl. waiting for the shared connection) is measured:
+ *  - slower than latencyThreshold or failed - limit is decreased (limit * backoff)
+ *  - else, when limit is in use - limit is increased (by ~1 per limit of attempts)
+ * Attempts over limit wait up to maxWait (none by default) and then fail with KeyLockOverloadedException,
+ * so under overload lock latency stays close to threshold instead of queueing on connection.
+ *
+ * Dao, which swallows SQL errors (KeyLockManagerPgDao), reports them to its listener -
+ * pass limiter as it, then attempt with error (in the same thread) is counted as failed:
+ *
+ *   val limiter = KeyLockAdaptiveLimiter()
+ *   KeyLockConnProviderDb(dataSource, KeyLockManagerPgDao(listener = limiter), limiter = limiter)
+ */
+class KeyLockAdaptiveLimiter @JvmOverloads constructor(
+    initialLimit: Int = 8,
+    private val minLimit: Int = 1,
+    private val maxLimit: Int = 64,
+    latencyThreshold: Duration = Duration.ofMillis(20),
+    maxWait: Duration = Duration.ZERO,
+    private val backoff: Double = 0.9,
+) : KeyLockListener {
+    private val thresholdNanos = latencyThreshold.toNanos()
+    private val maxWaitNanos = maxWait.toNanos()
+
+    private val lock = ReentrantLock()
+    private val slotFreed = lock.newCondition()
+    private var limit = initialLimit.toDouble() // guarded by lock
+    private var inFlight = 0 // guarded by lock
+    private var waiting = 0 // guarded by lock
+
+    // db error was reported during attempt of thread
+    private val attemptFailed = ThreadLocal<Boolean>()
+
+    init {
+        require(minLimit in 1..maxLimit) { "Invalid minLimit $minLimit (maxLimit $maxLimit)" }
+        require(initialLimit in minLimit..maxLimit) { "initialLimit must be in $minLimit..$maxLimit" }
+        require(thresholdNanos > 0) { "latencyThreshold must be positive" }
+        require(!maxWait.isNegative) { "maxWait must not be negative" }
+        require(backoff > 0.0 && backoff < 1.0) { "backoff must be in (0, 1)" }
+    }
+
+    // takes a slot for attempt; returns its start time (for release)
+    fun acquire(): Long {
+        lock.withLock {
+            if (inFlight >= limit.toInt()) {
+                if (maxWaitNanos == 0L)
+                    throw overloaded()
+                val deadline = System.nanoTime() + maxWaitNanos
+                waiting++
+                try {
+                    while (inFlight >= limit.toInt()) {
+                        val left = deadline - System.nanoTime()
+                        if (left <= 0)
+                            throw overloaded()
+                        slotFreed.awaitNanos(left)
+                    }
+                } finally {
+                    waiting--
+                }
+            }
+            inFlight++
+        }
+        attemptFailed.remove()
+        return System.nanoTime()
+    }
+
+    // frees slot of attempt, adjusts limit by its round trip
+    fun release(startNanos: Long, success: Boolean) {
+        val rtt = System.nanoTime() - startNanos
+        val failed = !success || attemptFailed.get() == true
+        attemptFailed.remove()
+        lock.withLock {
+            val used = inFlight
+            inFlight--
+            if (failed || rtt > thresholdNanos) {
+                limit = maxOf(minLimit.toDouble(), limit * backoff)
+            } else if (used * 2 >= limit) {
+                limit = minOf(maxLimit.toDouble(), limit + 1.0 / limit)
+            }
+            if (waiting > 0)
+                slotFreed.signalAll()
+        }
+    }
+
+    override fun onDbError(sysId: Int, keyId: Int, e: Throwable) {
+        attemptFailed.set(true)
+    }
+
+    fun limit(): Int = lock.withLock { limit.toInt() }
+
+    fun inFlight(): Int = lock.withLock { inFlight }
+
+    private fun overloaded() = KeyLockOverloadedException("Too many lock attempts in flight ($inFlight, limit ${limit.toInt()})")
+}
@@ -0,0 +1,118 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * In-memory KeyLockConnProvider - for single instance deployments,
+ * where locks are needed inside one JVM only (no db, no connection).
+ *
+ * Locks are kept in ConcurrentHashMap (key -> state) - no global lock,
+ * exclusive lock/unlock is a single CAS on map bin.
+ * Besides exclusive locks (tryLock) there are shared ones (tryLockShared) -
+ * many shared or one exclusive holder of key.
+ *
+ * Locks are not reentrant - second tryLock of the same key fails
+ * (KeyLockManager doesn't call it twice for the same key anyway).
+ */
+class KeyLockConnProviderLocal : KeyLockConnProvider {
+    // key -> EXCLUSIVE or count of shared holders
+    private val locks = ConcurrentHashMap<Long, Int>()
+
+    // sysId -> the same for namespace locks
+    private val namespaces = ConcurrentHashMap<Long, Int>()
+
+    override fun onFirstLock() {
+    }
+
+    override fun onLastUnlock() {
+    }
+
+    override fun tryLock(sysId: Int, keyId: Int): Boolean = tryLock(key(sysId, keyId))
+
+    override fun unlock(sysId: Int, keyId: Int) = unlock(key(sysId, keyId))
+
+    override fun tryLock(lockId: Long): Boolean {
+        return locks.putIfAbsent(lockId, EXCLUSIVE) == null
+    }
+
+    override fun unlock(lockId: Long) {
+        locks.remove(lockId, EXCLUSIVE)
+    }
+
+    fun tryLockShared(sysId: Int, keyId: Int): Boolean = tryLockShared(locks, key(sysId, keyId))
+
+    fun unlockShared(sysId: Int, keyId: Int) = unlockShared(locks, key(sysId, keyId))
+
+    override fun supportsNamespaceLocks(): Boolean = true
+
+    override fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean {
+        val key = sysId.toLong()
+        return if (shared) tryLockShared(namespaces, key) else namespaces.putIfAbsent(key, EXCLUSIVE) == null
+    }
+
+    override fun unlockNamespace(sysId: Int, shared: Boolean) {
+        val key = sysId.toLong()
+        if (shared) unlockShared(namespaces, key) else namespaces.remove(key, EXCLUSIVE)
+    }
+
+    private fun tryLockShared(map: ConcurrentHashMap<Long, Int>, key: Long): Boolean {
+        var locked = false
+        map.compute(key) { _, state ->
+            when {
+                state == null -> 1.also { locked = true }
+                state > 0 -> (state + 1).also { locked = true }
+                else -> state
+            }
+        }
+        return locked
+    }
+
+    private fun unlockShared(map: ConcurrentHashMap<Long, Int>, key: Long) {
+        map.computeIfPresent(key) { _, state ->
+            when {
+                state > 1 -> state - 1
+                state == 1 -> null
+                else -> state // exclusive - not ours
+            }
+        }
+    }
+
+    fun unlockAll() {
+        locks.clear()
+        namespaces.clear()
+    }
+
+    fun lockCount(): Int = locks.size + namespaces.size
+
+    private fun key(sysId: Int, keyId: Int): Long = LockKeyHash.pack(sysId, keyId)
+
+    companion object {
+        private const val EXCLUSIVE = -1
+    }
+}
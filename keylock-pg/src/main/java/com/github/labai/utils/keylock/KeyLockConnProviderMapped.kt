@@ -0,0 +1,104 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.nio.file.Path
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Same host front tier for other KeyLockConnProvider (usually KeyLockConnProviderDb).
+ *
+ * Key is first claimed in lock table of memory mapped file (shared by all JVMs of host, CAS on slots),
+ * and only then the lock is taken from delegate (db). If key is held by other process of the host,
+ * tryLock fails without db round trip.
+ * Db lock is always taken by the winner, so table is only a fast path - processes of other hosts
+ * and keys not tracked in table (slot used by other key) are decided by db.
+ * Entries of dead processes (pid and start time check) are taken over.
+ *
+ * All processes must use the same file and the same number of slots.
+ */
+class KeyLockConnProviderMapped @JvmOverloads constructor(
+    file: Path,
+    private val delegate: KeyLockConnProvider,
+    slots: Int = 65536,
+) : KeyLockConnProvider {
+    internal val table = MappedLockTable(file, slots)
+
+    override fun onFirstLock() {
+        delegate.onFirstLock()
+    }
+
+    override fun onLastUnlock() {
+        delegate.onLastUnlock()
+    }
+
+    override fun tryLock(sysId: Int, keyId: Int): Boolean {
+        return tryLock(LockKeyHash.pack(sysId, keyId)) { delegate.tryLock(sysId, keyId) }
+    }
+
+    override fun unlock(sysId: Int, keyId: Int) {
+        unlock(LockKeyHash.pack(sysId, keyId)) { delegate.unlock(sysId, keyId) }
+    }
+
+    override fun tryLock(lockId: Long): Boolean {
+        return tryLock(lockId) { delegate.tryLock(lockId) }
+    }
+
+    override fun unlock(lockId: Long) {
+        unlock(lockId) { delegate.unlock(lockId) }
+    }
+
+    override fun supportsNamespaceLocks(): Boolean = delegate.supportsNamespaceLocks()
+
+    // namespace locks are not tracked in table
+    override fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean = delegate.tryLockNamespace(sysId, shared)
+
+    override fun unlockNamespace(sysId: Int, shared: Boolean) = delegate.unlockNamespace(sysId, shared)
+
+    override fun addSessionLostHandler(handler: (lost: (Long) -> Boolean) -> Unit) = delegate.addSessionLostHandler(handler)
+
+    private inline fun tryLock(lockId: Long, lockFn: () -> Boolean): Boolean {
+        val claim = table.claim(lockId)
+        if (claim == MappedLockTable.HELD)
+            return false
+        var locked = false
+        try {
+            locked = lockFn()
+            return locked
+        } finally {
+            if (!locked && claim == MappedLockTable.CLAIMED)
+                table.release(lockId)
+        }
+    }
+
+    private inline fun unlock(lockId: Long, unlockFn: () -> Unit) {
+        try {
+            unlockFn()
+        } finally {
+            table.release(lockId)
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import javax.sql.DataSource
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * KeyLockConnProvider which takes a connection from pool for each call
+ * and returns it right after (no connection is held while task runs).
+ *
+ * Only for dao, which doesn't bind locks to db session -
+ * e.g. KeyLockManagerLeaseDao (not advisory locks of KeyLockManagerPgDao!).
+ * Works behind PgBouncer in transaction pooling mode.
+ */
+class KeyLockConnProviderPooled(
+    private val dataSource: DataSource,
+    private val dao: IKeyLockDaoProvider
+) : KeyLockConnProvider {
+
+    override fun onFirstLock() {
+    }
+
+    override fun onLastUnlock() {
+    }
+
+    override fun tryLock(sysId: Int, keyId: Int): Boolean {
+        return dataSource.connection.use { dao.tryLock(it, sysId, keyId) }
+    }
+
+    override fun unlock(sysId: Int, keyId: Int) {
+        dataSource.connection.use { dao.unlock(it, sysId, keyId) }
+    }
+
+    override fun tryLock(lockId: Long): Boolean {
+        return dataSource.connection.use { dao.tryLock(it, lockId) }
+    }
+
+    override fun unlock(lockId: Long) {
+        dataSource.connection.use { dao.unlock(it, lockId) }
+    }
+
+    override fun supportsNamespaceLocks(): Boolean = dao.supportsNamespaceLocks()
+
+    override fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean {
+        return dataSource.connection.use { dao.tryLockNamespace(it, sysId, shared) }
+    }
+
+    override fun unlockNamespace(sysId: Int, shared: Boolean) {
+        dataSource.connection.use { dao.unlockNamespace(it, sysId, shared) }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.time.Duration
+import javax.sql.DataSource
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * KeyLockConnProvider for several databases (shards).
+ *
+ * Each (sysId, keyId) is routed to one shard by consistent hashing
+ * (ring with virtualNodes points per shard), so every key has exactly one authority,
+ * and adding a shard to the end of list moves only ~1/N of keys.
+ * Order of dataSources matters - shard identity is its index.
+ *
+ * Each shard has own connection with the same lifecycle as KeyLockConnProviderDb -
+ * taken on first lock of the shard, closed when no lock of the shard is left
+ * (and replaced, when it is lost).
+ */
+class KeyLockConnProviderSharded(
+    dataSources: List<DataSource>,
+    dao: IKeyLockDaoProvider,
+    virtualNodes: Int = 160,
+    listener: KeyLockListener? = null,
+    validationInterval: Duration? = null,
+) : KeyLockConnProvider {
+
+    private class Shard(val provider: KeyLockConnProviderDb) {
+        var locks = 0 // guarded by shard
+    }
+
+    private val shards: List<Shard>
+    private val ringHashes: LongArray
+    private val ringShards: IntArray
+
+    init {
+        require(dataSources.isNotEmpty()) { "No dataSources" }
+        require(virtualNodes > 0) { "virtualNodes must be positive" }
+        shards = dataSources.map { Shard(KeyLockConnProviderDb(it, dao, listener, validationInterval)) }
+        val points = ArrayList<Pair<Long, Int>>(dataSources.size * virtualNodes)
+        for (shard in dataSources.indices) {
+            for (node in 0 until virtualNodes) {
+                points.add(Pair(LockKeyHash.fmix64(RING_SEED xor (shard.toLong() shl 32) xor node.toLong()), shard))
+            }
+        }
+        points.sortBy { it.first }
+        ringHashes = LongArray(points.size) { points[it].first }
+        ringShards = IntArray(points.size) { points[it].second }
+    }
+
+    val shardCount: Int get() = shards.size
+
+    // index of shard for key
+    fun shardOf(sysId: Int, keyId: Int): Int = shardOf(LockKeyHash.pack(sysId, keyId))
+
+    // index of shard for 64 bit lock id
+    fun shardOf(lockId: Long): Int {
+        val hash = LockKeyHash.fmix64(lockId)
+        var idx = ringHashes.binarySearch(hash)
+        if (idx < 0)
+            idx = -idx - 1 // first point after hash
+        return ringShards[if (idx == ringHashes.size) 0 else idx]
+    }
+
+    // connections are taken per shard, on first lock of shard
+    override fun onFirstLock() {
+    }
+
+    // all locks are released by now - just in case close what is left
+    override fun onLastUnlock() {
+        for (shard in shards) {
+            synchronized(shard) {
+                if (shard.locks != 0) {
+                    shard.locks = 0
+                    shard.provider.onLastUnlock()
+                }
+            }
+        }
+    }
+
+    override fun tryLock(sysId: Int, keyId: Int): Boolean {
+        return tryLock(shards[shardOf(sysId, keyId)]) { it.tryLock(sysId, keyId) }
+    }
+
+    override fun unlock(sysId: Int, keyId: Int) {
+        unlock(shards[shardOf(sysId, keyId)]) { it.unlock(sysId, keyId) }
+    }
+
+    override fun tryLock(lockId: Long): Boolean {
+        return tryLock(shards[shardOf(lockId)]) { it.tryLock(lockId) }
+    }
+
+    override fun unlock(lockId: Long) {
+        unlock(shards[shardOf(lockId)]) { it.unlock(lockId) }
+    }
+
+    override fun supportsNamespaceLocks(): Boolean = shards[0].provider.supportsNamespaceLocks()
+
+    // namespace lock is in shard of (sysId, 0) - all instances use the same
+    override fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean {
+        return tryLock(shards[shardOf(sysId, 0)]) { it.tryLockNamespace(sysId, shared) }
+    }
+
+    override fun unlockNamespace(sysId: Int, shared: Boolean) {
+        unlock(shards[shardOf(sysId, 0)]) { it.unlockNamespace(sysId, shared) }
+    }
+
+    // lost session of shard - only its keys are lost
+    override fun addSessionLostHandler(handler: (lost: (Long) -> Boolean) -> Unit) {
+        shards.forEachIndexed { idx, shard ->
+            shard.provider.addSessionLostHandler { handler { lockId -> shardOf(lockId) == idx } }
+        }
+    }
+
+    private inline fun tryLock(shard: Shard, lockFn: (KeyLockConnProviderDb) -> Boolean): Boolean {
+        acquire(shard)
+        var locked = false
+        try {
+            locked = lockFn(shard.provider)
+            return locked
+        } finally {
+            if (!locked)
+                release(shard)
+        }
+    }
+
+    private inline fun unlock(shard: Shard, unlockFn: (KeyLockConnProviderDb) -> Unit) {
+        try {
+            unlockFn(shard.provider)
+        } finally {
+            release(shard)
+        }
+    }
+
+    private fun acquire(shard: Shard) {
+        synchronized(shard) {
+            if (shard.locks == 0)
+                shard.provider.onFirstLock()
+            shard.locks++
+        }
+    }
+
+    private fun release(shard: Shard) {
+        synchronized(shard) {
+            if (shard.locks > 0 && --shard.locks == 0)
+                shard.provider.onLastUnlock() // release connection
+        }
+    }
+
+    companion object {
+        private const val RING_SEED = 0x5bd1e9955bd1e995L
+    }
+}
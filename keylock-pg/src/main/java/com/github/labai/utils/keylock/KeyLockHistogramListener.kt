@@ -0,0 +1,190 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.LongAccumulator
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * KeyLockListener which collects counters and wait/hold time histograms per sysId.
+ * Recording is lock-free (atomic buckets), percentiles are calculated on snapshot().
+ */
+class KeyLockHistogramListener : KeyLockListener {
+
+    private class SysStats {
+        val wait = LatencyHistogram()
+        val hold = LatencyHistogram()
+        val acquired = LongAdder()
+        val contended = LongAdder()
+        val dbErrors = LongAdder()
+        val overloaded = LongAdder()
+    }
+
+    private val bySys = ConcurrentHashMap<Int, SysStats>()
+    private val connectionsOpened = LongAdder()
+    private val dbCalls = LongAdder()
+    private val firstLocks = LongAdder()
+    private val sessionsLost = LongAdder()
+
+    override fun onAcquired(sysId: Int, keyId: Int, waitNanos: Long) {
+        val stats = stats(sysId)
+        stats.acquired.increment()
+        stats.wait.record(waitNanos)
+    }
+
+    override fun onAcquireFailed(sysId: Int, keyId: Int, waitNanos: Long, local: Boolean) {
+        val stats = stats(sysId)
+        stats.contended.increment()
+        stats.wait.record(waitNanos)
+    }
+
+    override fun onReleased(sysId: Int, keyId: Int, holdNanos: Long) {
+        stats(sysId).hold.record(holdNanos)
+    }
+
+    override fun onFirstLock() {
+        firstLocks.increment()
+    }
+
+    override fun onConnectionOpened() {
+        connectionsOpened.increment()
+    }
+
+    override fun onDbCall() {
+        dbCalls.increment()
+    }
+
+    override fun onOverloaded(sysId: Int, keyId: Int) {
+        stats(sysId).overloaded.increment()
+    }
+
+    override fun onSessionLost() {
+        sessionsLost.increment()
+    }
+
+    override fun onDbError(sysId: Int, keyId: Int, e: Throwable) {
+        stats(sysId).dbErrors.increment()
+    }
+
+    fun connectionsOpened(): Long = connectionsOpened.sum()
+
+    fun dbCalls(): Long = dbCalls.sum()
+
+    fun firstLocks(): Long = firstLocks.sum()
+
+    fun sessionsLost(): Long = sessionsLost.sum()
+
+    fun snapshot(): List<KeyLockStats> {
+        return bySys.entries.sortedBy { it.key }.map { (sysId, s) ->
+            KeyLockStats(
+                sysId = sysId,
+                acquired = s.acquired.sum(),
+                contended = s.contended.sum(),
+                dbErrors = s.dbErrors.sum(),
+                waitP50Nanos = s.wait.percentile(0.5),
+                waitP99Nanos = s.wait.percentile(0.99),
+                waitMaxNanos = s.wait.max(),
+                holdP50Nanos = s.hold.percentile(0.5),
+                holdP99Nanos = s.hold.percentile(0.99),
+                holdMaxNanos = s.hold.max(),
+                overloaded = s.overloaded.sum(),
+            )
+        }
+    }
+
+    private fun stats(sysId: Int): SysStats = bySys[sysId] ?: bySys.computeIfAbsent(sysId) { SysStats() }
+}
+
+data class KeyLockStats(
+    val sysId: Int,
+    val acquired: Long,
+    val contended: Long,
+    val dbErrors: Long,
+    val waitP50Nanos: Long,
+    val waitP99Nanos: Long,
+    val waitMaxNanos: Long,
+    val holdP50Nanos: Long,
+    val holdP99Nanos: Long,
+    val holdMaxNanos: Long,
+    val overloaded: Long = 0,
+)
+
+/**
+ * log-linear histogram: 8 sub-buckets per power of 2 (error up to 12.5%),
+ * values 0..7 are exact. Percentile is upper bound of bucket (not above max).
+ */
+internal class LatencyHistogram {
+    private val buckets = AtomicLongArray(BUCKETS)
+    private val maxValue = LongAccumulator(Math::max, 0)
+
+    fun record(value: Long) {
+        val v = if (value < 0) 0 else value
+        buckets.incrementAndGet(index(v))
+        maxValue.accumulate(v)
+    }
+
+    fun max(): Long = maxValue.get()
+
+    fun percentile(p: Double): Long {
+        val counts = LongArray(BUCKETS) { buckets.get(it) }
+        val total = counts.sum()
+        if (total == 0L)
+            return 0
+        val rank = maxOf(1L, Math.ceil(p * total).toLong())
+        var seen = 0L
+        for (i in counts.indices) {
+            seen += counts[i]
+            if (seen >= rank)
+                return minOf(upperBound(i), max())
+        }
+        return max()
+    }
+
+    companion object {
+        private const val SUB_BITS = 3
+        private const val SUB = 1 shl SUB_BITS
+        private const val BUCKETS = (64 - SUB_BITS) * SUB
+
+        internal fun index(v: Long): Int {
+            if (v < SUB)
+                return v.toInt()
+            val exp = 63 - java.lang.Long.numberOfLeadingZeros(v)
+            val sub = (v ushr (exp - SUB_BITS)).toInt() and (SUB - 1)
+            return (exp - SUB_BITS + 1) * SUB + sub
+        }
+
+        internal fun upperBound(idx: Int): Long {
+            if (idx < SUB)
+                return idx.toLong()
+            val shift = idx / SUB - 1
+            val lower = (SUB + idx % SUB).toLong() shl shift
+            return lower + (1L shl shift) - 1
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import jdk.jfr.Category
+import jdk.jfr.Description
+import jdk.jfr.Event
+import jdk.jfr.Label
+import jdk.jfr.Name
+import jdk.jfr.StackTrace
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Java Flight Recorder events (category "KeyLock").
+ * Enabled/disabled and thresholds - by standard JFR settings, e.g.
+ *   -XX:StartFlightRecording:com.github.labai.keylock.Acquire#threshold=1ms
+ * When recording is off, events are not committed (near-zero cost).
+ */
+internal object JfrOutcome {
+    const val ACQUIRED = "acquired"
+    const val STICKY = "sticky" // idle lock kept in db (stickyIdle)
+    const val HANDOFF = "handoff" // handed over by previous local holder
+    const val LOCKED_LOCAL = "locked-local" // already locked in this instance
+    const val LOCKED = "locked" // locked by other session
+    const val ERROR = "error"
+    const val OVERLOADED = "overloaded" // rejected by KeyLockAdaptiveLimiter
+}
+
+@Name("com.github.labai.keylock.Acquire")
+@Label("Lock Acquire")
+@Category("KeyLock")
+@Description("Attempt to acquire a lock (incl. connection open and db call)")
+internal class KeyLockAcquireEvent : Event() {
+    @JvmField @Label("Sys Id") var sysId: Int = 0
+    @JvmField @Label("Key Id") var keyId: Int = 0
+    @JvmField @Label("Outcome") var outcome: String? = null
+
+    fun finish(sysId: Int, keyId: Int, outcome: String) {
+        end()
+        if (shouldCommit()) {
+            this.sysId = sysId
+            this.keyId = keyId
+            this.outcome = outcome
+            commit()
+        }
+    }
+}
+
+@Name("com.github.labai.keylock.Hold")
+@Label("Lock Hold")
+@Category("KeyLock")
+@Description("Lock is held while task runs")
+@StackTrace(false)
+internal class KeyLockHoldEvent : Event() {
+    @JvmField @Label("Sys Id") var sysId: Int = 0
+    @JvmField @Label("Key Id") var keyId: Int = 0
+
+    fun finish(sysId: Int, keyId: Int) {
+        end()
+        if (shouldCommit()) {
+            this.sysId = sysId
+            this.keyId = keyId
+            commit()
+        }
+    }
+}
+
+@Name("com.github.labai.keylock.Unlock")
+@Label("Lock Release")
+@Category("KeyLock")
+@Description("Release of lock in db")
+@StackTrace(false)
+internal class KeyLockUnlockEvent : Event() {
+    @JvmField @Label("Sys Id") var sysId: Int = 0
+    @JvmField @Label("Key Id") var keyId: Int = 0
+    @JvmField @Label("Success") var success: Boolean = false
+
+    fun finish(sysId: Int, keyId: Int, success: Boolean) {
+        end()
+        if (shouldCommit()) {
+            this.sysId = sysId
+            this.keyId = keyId
+            this.success = success
+            commit()
+        }
+    }
+}
+
+@Name("com.github.labai.keylock.Connection")
+@Label("Lock Connection")
+@Category("KeyLock")
+@Description("Open (on first lock) or close (on last unlock) of lock connection")
+@StackTrace(false)
+internal class KeyLockConnectionEvent : Event() {
+    @JvmField @Label("Open") var open: Boolean = false
+    @JvmField @Label("Success") var success: Boolean = false
+
+    fun finish(open: Boolean, success: Boolean) {
+        end()
+        if (shouldCommit()) {
+            this.open = open
+            this.success = success
+            commit()
+        }
+    }
+}
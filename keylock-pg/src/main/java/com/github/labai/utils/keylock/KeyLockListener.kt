@@ -0,0 +1,67 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Listener for metrics of KeyLockManager and KeyLockConnProviderDb.
+ * Is called synchronously in locking thread - must be fast and must not throw.
+ * Without listener (null) nothing is measured.
+ *
+ * Times are in nanoseconds:
+ *  - waitNanos - from runLocked() call till lock acquired or failed (incl. connection open and db call)
+ *  - holdNanos - from lock acquired till task finished
+ *
+ * KeyLockHistogramListener - built-in implementation with latency histograms per sysId.
+ */
+interface KeyLockListener {
+    fun onAcquired(sysId: Int, keyId: Int, waitNanos: Long) {}
+
+    // local - key already locked in this instance (no db call)
+    fun onAcquireFailed(sysId: Int, keyId: Int, waitNanos: Long, local: Boolean) {}
+
+    fun onReleased(sysId: Int, keyId: Int, holdNanos: Long) {}
+
+    fun onFirstLock() {}
+
+    fun onLastUnlock() {}
+
+    fun onConnectionOpened() {}
+
+    // db round trip of lock session (lock, unlock, validation)
+    fun onDbCall() {}
+
+    fun onDbError(sysId: Int, keyId: Int, e: Throwable) {}
+
+    // attempt is rejected by KeyLockAdaptiveLimiter (KeyLockOverloadedException)
+    fun onOverloaded(sysId: Int, keyId: Int) {}
+
+    // db session (connection) is found dead - its locks are released by db
+    fun onSessionLost() {}
+
+    // task finished, but its lock was lost meanwhile (with session)
+    fun onLockLost(sysId: Int, keyId: Int) {}
+}
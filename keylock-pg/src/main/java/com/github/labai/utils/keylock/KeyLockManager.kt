@@ -25,6 +25,13 @@ package com.github.labai.utils.keylock
 
 import org.slf4j.LoggerFactory
 import java.sql.Connection
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
 import javax.sql.DataSource
 
 /**
@@ -38,6 +45,15 @@ import javax.sql.DataSource
  * Tries to reuse one db connection for several locks.
  * Takes a connection on first lock and close connection when no active lock exists.
  *
+ * With stickyIdle db lock is kept after task (for hot keys) - next lock of the key
+ * by this manager is taken without db round trip. Idle lock is released after stickyIdle,
+ * on close(), on releaseSticky() (e.g. request of other instance - KeyLockReleaseRequestListener)
+ * or before runLockedNamespace of its sysId.
+ *
+ * runLocked with priority and timeout waits for the key, locked by this manager (other instances -
+ * KeyLockReleaseWaiter). Waiters of key are served by priority (higher first, +1 for each priorityAging
+ * of waiting); the key is handed over to the next waiter with its db lock, without unlock/lock.
+ *
  */
 
 private val logger = LoggerFactory.getLogger(KeyLockManager::class.java)
@@ -45,6 +61,16 @@ private val logger = LoggerFactory.getLogger(KeyLockManager::class.java)
 interface IKeyLockProvider {
     fun tryLock(sysId: Int, keyId: Int): Boolean
     fun unlock(sysId: Int, keyId: Int)
+
+    // 64 bit lock id (LockKeyHash) - by default split to 2 ints
+    fun tryLock(lockId: Long): Boolean = tryLock((lockId ushr 32).toInt(), lockId.toInt())
+    fun unlock(lockId: Long) = unlock((lockId ushr 32).toInt(), lockId.toInt())
+
+    // namespace (whole sysId) lock - exclusive conflicts with shared (intention locks of keys);
+    // KeyLockManager with namespaceLocks requires provider supporting them
+    fun supportsNamespaceLocks(): Boolean = false
+    fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean = false
+    fun unlockNamespace(sysId: Int, shared: Boolean) {}
 }
 
 interface KeyLockConnProvider : IKeyLockProvider {
@@ -53,41 +79,74 @@ interface KeyLockConnProvider : IKeyLockProvider {
 
     // will be called on last lock close (no more left) - free connection
     fun onLastUnlock()
+
+    // handler is called when db session is lost (locks of it are released by db);
+    // lost(lockId) tells if lock was in lost session (namespace lock - by LockKeyHash.pack(sysId, 0))
+    fun addSessionLostHandler(handler: (lost: (Long) -> Boolean) -> Unit) {}
 }
 
 interface IKeyLockDaoProvider {
     fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean
     fun unlock(conn: Connection, sysId: Int, keyId: Int)
     fun unlockAll(conn: Connection)
+
+    // 64 bit lock id (LockKeyHash) - by default split to 2 ints
+    fun tryLock(conn: Connection, lockId: Long): Boolean = tryLock(conn, (lockId ushr 32).toInt(), lockId.toInt())
+    fun unlock(conn: Connection, lockId: Long) = unlock(conn, (lockId ushr 32).toInt(), lockId.toInt())
+
+    // namespace (whole sysId) lock - exclusive conflicts with shared
+    fun supportsNamespaceLocks(): Boolean = false
+    fun tryLockNamespace(conn: Connection, sysId: Int, shared: Boolean): Boolean = false
+    fun unlockNamespace(conn: Connection, sysId: Int, shared: Boolean) {}
 }
 
 class LockedResourceException(message: String) : RuntimeException(message)
 
-class KeyLockConnProviderDb(
+// lock attempt is rejected by KeyLockAdaptiveLimiter - db is overloaded, the key can be free
+class KeyLockOverloadedException(message: String) : RuntimeException(message)
+
+class KeyLockConnProviderDb @JvmOverloads constructor(
     private val dataSource: DataSource,
-    private val dao: IKeyLockDaoProvider
+    private val dao: IKeyLockDaoProvider,
+    private val listener: KeyLockListener? = null,
+    private val validationInterval: Duration? = null, // check session in background (e.g. killed idle session)
+    private val limiter: KeyLockAdaptiveLimiter? = null, // limit of key lock attempts in flight
 ) : KeyLockConnProvider {
 
     @Volatile private var initialized = false
     private var connection: Connection? = null
+    private var validator: ScheduledExecutorService? = null // guarded by this
+    private val sessionLostHandlers = CopyOnWriteArrayList<(lost: (Long) -> Boolean) -> Unit>()
+
+    init {
+        require(validationInterval == null || validationInterval.toMillis() > 0) { "validationInterval must be positive" }
+    }
 
     override fun onFirstLock() {
         synchronized(this) {
             if (!initialized) {
-                connection = connection ?: dataSource.connection
+                if (connection == null)
+                    open()
                 initialized = true
+                startValidator()
             }
         }
     }
 
     override fun onLastUnlock() {
         synchronized(this) {
+            validator?.shutdownNow()
+            validator = null
+            val event = if (connection != null) KeyLockConnectionEvent().apply { begin() } else null
             try {
                 connection?.let {
+                    listener?.onDbCall()
                     dao.unlockAll(it) // // just in case
                     it.close()
                 }
+                event?.finish(false, true)
             } catch (e: Exception) {
+                event?.finish(false, false)
                 logger.warn("Cannot close DB connection", e)
             } finally {
                 connection = null
@@ -96,57 +155,695 @@ class KeyLockConnProviderDb(
         }
     }
 
-    override fun tryLock(sysId: Int, keyId: Int): Boolean {
-        synchronized(this) {
-            checkNotNull(connection) { "Call onFirstLock() before using tryLock()" }
-            return dao.tryLock(connection!!, sysId, keyId)
+    override fun tryLock(sysId: Int, keyId: Int): Boolean = limited { withSession("tryLock") { dao.tryLock(it, sysId, keyId) } }
+
+    override fun unlock(sysId: Int, keyId: Int) = withSession("unlock") { dao.unlock(it, sysId, keyId) }
+
+    override fun tryLock(lockId: Long): Boolean = limited { withSession("tryLock") { dao.tryLock(it, lockId) } }
+
+    override fun unlock(lockId: Long) = withSession("unlock") { dao.unlock(it, lockId) }
+
+    override fun supportsNamespaceLocks(): Boolean = dao.supportsNamespaceLocks()
+
+    override fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean = withSession("tryLockNamespace") { dao.tryLockNamespace(it, sysId, shared) }
+
+    override fun unlockNamespace(sysId: Int, shared: Boolean) = withSession("unlockNamespace") { dao.unlockNamespace(it, sysId, shared) }
+
+    override fun addSessionLostHandler(handler: (lost: (Long) -> Boolean) -> Unit) {
+        sessionLostHandlers.add(handler)
+    }
+
+    /**
+     * Checks the session; if it is dead - drops it (handlers are notified) and opens a new one.
+     * Returns false if session was lost. Is called by background validator (validationInterval).
+     */
+    fun validate(): Boolean {
+        var lost = false
+        try {
+            synchronized(this) {
+                val conn = connection
+                if (conn != null) {
+                    listener?.onDbCall()
+                    lost = dropIfDead(conn)
+                }
+                if (initialized && connection == null)
+                    open()
+            }
+        } catch (e: Exception) {
+            logger.warn("Cannot reopen DB lock session: {}", e.message)
+        } finally {
+            if (lost)
+                fireSessionLost()
         }
+        return !lost
     }
 
-    override fun unlock(sysId: Int, keyId: Int) {
-        synchronized(this) {
-            checkNotNull(connection) { "Call onFirstLock() before using unlock()" }
-            dao.unlock(connection!!, sysId, keyId)
+    // unlocks are not limited - they free db
+    private inline fun <T> limited(fn: () -> T): T {
+        if (limiter == null)
+            return fn()
+        val start = limiter.acquire()
+        var success = false
+        try {
+            val res = fn()
+            success = true
+            return res
+        } finally {
+            limiter.release(start, success)
+        }
+    }
+
+    // dead session is dropped on failure of call (its locks are gone), next call takes a new connection
+    private inline fun <T> withSession(name: String, fn: (Connection) -> T): T {
+        var lost = false
+        try {
+            synchronized(this) {
+                check(initialized) { "Call onFirstLock() before using $name()" }
+                val conn = connection ?: open()
+                listener?.onDbCall()
+                try {
+                    return fn(conn)
+                } catch (e: Exception) {
+                    lost = dropIfDead(conn)
+                    throw e
+                }
+            }
+        } finally {
+            if (lost)
+                fireSessionLost()
+        }
+    }
+
+    // under lock
+    private fun open(): Connection {
+        val event = KeyLockConnectionEvent()
+        event.begin()
+        var conn: Connection? = null
+        try {
+            conn = dataSource.connection
+        } finally {
+            event.finish(true, conn != null)
         }
+        connection = conn
+        listener?.onConnectionOpened()
+        return conn!!
+    }
+
+    // under lock
+    private fun dropIfDead(conn: Connection): Boolean {
+        val alive = try {
+            !conn.isClosed && conn.isValid(VALIDATION_TIMEOUT_SECONDS)
+        } catch (e: Exception) {
+            false
+        }
+        if (alive)
+            return false
+        logger.warn("DB lock session is lost, its locks are released by db")
+        connection = null
+        try {
+            conn.close()
+        } catch (e: Exception) {
+            // already broken
+        }
+        listener?.onSessionLost()
+        return true
+    }
+
+    // not under lock - handlers take locks of managers
+    private fun fireSessionLost() {
+        for (handler in sessionLostHandlers) {
+            try {
+                handler { true }
+            } catch (e: Exception) {
+                logger.warn("Session lost handler failed", e)
+            }
+        }
+    }
+
+    // under lock
+    private fun startValidator() {
+        if (validationInterval == null || validator != null)
+            return
+        val period = validationInterval.toMillis()
+        validator = Executors.newSingleThreadScheduledExecutor { r ->
+            Thread(r, "keylock-session-validator").apply { isDaemon = true }
+        }.apply {
+            scheduleWithFixedDelay({ validate() }, period, period, TimeUnit.MILLISECONDS)
+        }
+    }
+
+    companion object {
+        private const val VALIDATION_TIMEOUT_SECONDS = 2
     }
 }
 
-class KeyLockManager(
-    private val lockProvider: KeyLockConnProvider
-) {
-    private val ourLocks = mutableSetOf<Pair<Int, Int>>()
+class KeyLockManager @JvmOverloads constructor(
+    private val lockProvider: KeyLockConnProvider,
+    private val listener: KeyLockListener? = null,
+    private val collisionCheck: Boolean = false, // detect different local keys with the same 64 bit lock id
+    private val namespaceLocks: Boolean = false, // key locks take intention lock on sysId (for runLockedNamespace)
+    stickyIdle: Duration? = null, // keep db lock after task up to this idle time
+    priorityAging: Duration = Duration.ofMillis(100), // waiting time, raising priority of waiter by 1
+) : AutoCloseable {
+    // lock id -> key (with collisionCheck) or marker
+    private val ourLocks = HashMap<Long, Any>()
+
+    // sysId -> count of our key locks (holding shared intention lock on namespace)
+    private val namespaceKeys = HashMap<Int, Int>()
+
+    // sysId -> shared db lock of namespace is being taken (outside of lock) by one of its keys
+    private val namespaceTaking = HashMap<Int, CountDownLatch>()
+
+    // sysIds with exclusive namespace lock
+    private val ourNamespaces = HashSet<Int>()
+
+    // key == null - (sysId, keyId) lock
+    private class StickyLock(val sysId: Int, val keyId: Int, val key: Any?, val localKey: Any) {
+        var lastUsed = 0L
+    }
+
+    // lock id -> idle lock, still held in db (stickyIdle); it's counted as ours for connection
+    private val stickyLocks = HashMap<Long, StickyLock>()
+    private val stickyIdleNanos = stickyIdle?.toNanos() ?: 0L
+    private var sweeper: ScheduledExecutorService? = null // guarded by this
+    private var closed = false // guarded by this
+
+    // our locks and namespaces (shared), lost with db session
+    private val lostLocks = HashSet<Long>()
+    private val lostNamespaces = HashSet<Int>()
+
+    // incremented on each session loss - lock, taken before it, is not kept as sticky
+    @Volatile private var sessionGeneration = 0L
+
+    private class LockWaiter(val priority: Int, val since: Long) {
+        val latch = CountDownLatch(1)
+        var turn = WAITING // guarded by manager
+    }
+
+    // lock id -> local waiters of key (runLocked with timeout)
+    private val waiters = HashMap<Long, MutableList<LockWaiter>>()
+    @Volatile private var waiterCount = 0
+    private val agingNanos = priorityAging.toNanos()
+
+    init {
+        require(stickyIdle == null || stickyIdleNanos > 0) { "stickyIdle must be positive" }
+        require(agingNanos > 0) { "priorityAging must be positive" }
+        require(!namespaceLocks || lockProvider.supportsNamespaceLocks()) { "Namespace locks are not supported by ${lockProvider.javaClass.simpleName}" }
+        lockProvider.addSessionLostHandler(::onSessionLost)
+    }
 
     fun <T> runLocked(sysId: Int, keyId: Int, taskFn: () -> T): T {
+        return runLockedId(LockKeyHash.pack(sysId, keyId), sysId, keyId, null, 0, 0L, taskFn)
+    }
+
+    // key is hashed to 64 bit lock id (LockKeyHash)
+    fun <T> runLocked(namespace: Int, key: CharSequence, taskFn: () -> T): T {
+        val lockId = LockKeyHash.hash64(namespace, key)
+        return runLockedId(lockId, namespace, lockId.toInt(), key, 0, 0L, taskFn)
+    }
+
+    fun <T> runLocked(namespace: Int, key: UUID, taskFn: () -> T): T {
+        val lockId = LockKeyHash.hash64(namespace, key)
+        return runLockedId(lockId, namespace, lockId.toInt(), key, 0, 0L, taskFn)
+    }
+
+    /**
+     * If the key is locked by this manager - waits up to timeout for it (by priority, higher first),
+     * then throws LockedResourceException. Key, locked by other instance, is not waited for.
+     */
+    fun <T> runLocked(sysId: Int, keyId: Int, priority: Int, timeout: Duration, taskFn: () -> T): T {
+        return runLockedId(LockKeyHash.pack(sysId, keyId), sysId, keyId, null, priority, timeout.toNanos(), taskFn)
+    }
+
+    fun <T> runLocked(namespace: Int, key: CharSequence, priority: Int, timeout: Duration, taskFn: () -> T): T {
+        val lockId = LockKeyHash.hash64(namespace, key)
+        return runLockedId(lockId, namespace, lockId.toInt(), key, priority, timeout.toNanos(), taskFn)
+    }
+
+    fun <T> runLocked(namespace: Int, key: UUID, priority: Int, timeout: Duration, taskFn: () -> T): T {
+        val lockId = LockKeyHash.hash64(namespace, key)
+        return runLockedId(lockId, namespace, lockId.toInt(), key, priority, timeout.toNanos(), taskFn)
+    }
+
+    // key == null - (sysId, keyId) lock, else 64 bit lockId lock (keyId is low bits of it for listener and events)
+    // waitNanos > 0 - wait for key, locked by this manager
+    private fun <T> runLockedId(lockId: Long, sysId: Int, keyId: Int, key: Any?, priority: Int, waitNanos: Long, taskFn: () -> T): T {
         var wasLockedDb = false
-        val pair = Pair(sysId, keyId)
-        synchronized(this) {
-            if (!ourLocks.add(pair)) {
-                throw LockedResourceException("Lock already acquired for $sysId-$keyId")
+        val startNanos = if (listener != null || waitNanos > 0) System.nanoTime() else 0L
+        val acquireEvent = KeyLockAcquireEvent()
+        acquireEvent.begin()
+        val localKey: Any = if (collisionCheck && key != null) key.toString() else INT_KEY
+        var sticky: StickyLock? = null
+        var handedOver = false
+        while (true) {
+            val waiter = reserve(lockId, sysId, keyId, key, localKey, priority, waitNanos, startNanos, acquireEvent) { sticky = it }
+                ?: break
+            val turn = awaitTurn(lockId, sysId, keyId, key, waiter, startNanos + waitNanos)
+            if (turn == GRANTED) {
+                handedOver = true
+                break
             }
-            if (ourLocks.size == 1) {
-                lockProvider.onFirstLock()
+            if (turn == WAITING) { // timeout
+                listener?.onAcquireFailed(sysId, keyId, System.nanoTime() - startNanos, true)
+                acquireEvent.finish(sysId, keyId, JfrOutcome.LOCKED_LOCAL)
+                throw LockedResourceException("Lock already acquired for $sysId-${key ?: keyId} (waited)")
             }
+            // RETRY - key is free locally
         }
+        val generation = sessionGeneration
 
+        var lockedNanos = 0L
+        val holdEvent = KeyLockHoldEvent()
         try {
-            if (!lockProvider.tryLock(sysId, keyId))
-                throw LockedResourceException("Can't acquire task lock for $sysId-$keyId (pg)")
+            val locked = sticky != null || handedOver || try {
+                if (key == null) lockProvider.tryLock(sysId, keyId) else lockProvider.tryLock(lockId)
+            } catch (e: KeyLockOverloadedException) {
+                listener?.onOverloaded(sysId, keyId)
+                acquireEvent.finish(sysId, keyId, JfrOutcome.OVERLOADED)
+                throw e
+            } catch (e: Exception) {
+                listener?.onDbError(sysId, keyId, e)
+                acquireEvent.finish(sysId, keyId, JfrOutcome.ERROR)
+                throw e
+            }
+            if (!locked) {
+                listener?.onAcquireFailed(sysId, keyId, System.nanoTime() - startNanos, false)
+                acquireEvent.finish(sysId, keyId, JfrOutcome.LOCKED)
+                throw LockedResourceException("Can't acquire task lock for $sysId-${key ?: keyId} (pg)")
+            }
             wasLockedDb = true
+            acquireEvent.finish(sysId, keyId, if (handedOver) JfrOutcome.HANDOFF else if (sticky != null) JfrOutcome.STICKY else JfrOutcome.ACQUIRED)
+            holdEvent.begin()
+            if (listener != null) {
+                lockedNanos = System.nanoTime()
+                listener.onAcquired(sysId, keyId, lockedNanos - startNanos)
+            }
             return taskFn()
         } finally {
             if (wasLockedDb) {
+                listener?.onReleased(sysId, keyId, System.nanoTime() - lockedNanos)
+                holdEvent.finish(sysId, keyId)
+            }
+            if (!wasLockedDb || !passOn(lockId, generation, sticky ?: if (stickyIdleNanos > 0) StickyLock(sysId, keyId, key, localKey) else null))
+                release(lockId, sysId, keyId, key, wasLockedDb)
+        }
+    }
+
+    // takes the key locally (db lock is taken by caller, unless idle sticky lock is reused - onSticky);
+    // returns waiter, if the key is locked by this manager and caller waits for it
+    private inline fun reserve(
+        lockId: Long, sysId: Int, keyId: Int, key: Any?, localKey: Any, priority: Int, waitNanos: Long,
+        startNanos: Long, acquireEvent: KeyLockAcquireEvent, onSticky: (StickyLock) -> Unit,
+    ): LockWaiter? {
+        var sticky: StickyLock? = null
+        synchronized(this) {
+            val existing = ourLocks.putIfAbsent(lockId, localKey) ?: stickyLocks[lockId]?.let {
+                if (it.localKey == localKey) {
+                    sticky = stickyLocks.remove(lockId) // is still held in db
+                    null
+                } else {
+                    ourLocks.remove(lockId)
+                    it.localKey
+                }
+            }
+            if (existing != null) {
+                if (waitNanos > 0 && existing == localKey && System.nanoTime() - startNanos < waitNanos)
+                    return enqueue(lockId, priority)
+                listener?.onAcquireFailed(sysId, keyId, System.nanoTime() - startNanos, true)
+                acquireEvent.finish(sysId, keyId, JfrOutcome.LOCKED_LOCAL)
+                if (collisionCheck && existing != localKey)
+                    throw IllegalStateException("Lock id collision: keys '$existing' and '${key ?: "$sysId-$keyId"}' have the same lock id $lockId")
+                throw LockedResourceException("Lock already acquired for $sysId-${key ?: keyId}")
+            }
+            if (sticky == null && ourLocks.size + ourNamespaces.size + stickyLocks.size == 1) {
+                lockProvider.onFirstLock()
+                listener?.onFirstLock()
+            }
+        }
+
+        if (sticky == null && namespaceLocks) {
+            val entered = try {
+                enterNamespace(sysId)
+            } catch (e: Exception) {
+                synchronized(this) { releaseLocal(lockId) }
+                throw e
+            }
+            if (!entered) {
+                synchronized(this) { releaseLocal(lockId) }
+                listener?.onAcquireFailed(sysId, keyId, System.nanoTime() - startNanos, false)
+                acquireEvent.finish(sysId, keyId, JfrOutcome.LOCKED)
+                throw LockedResourceException("Namespace $sysId is locked")
+            }
+        }
+        sticky?.let(onSticky)
+        return null
+    }
+
+    // under lock
+    private fun enqueue(lockId: Long, priority: Int): LockWaiter {
+        val waiter = LockWaiter(priority, System.nanoTime())
+        waiters.getOrPut(lockId) { ArrayList(2) }.add(waiter)
+        waiterCount++
+        return waiter
+    }
+
+    // waits until deadline; returns turn - GRANTED (key with db lock is handed over), RETRY (key is free) or WAITING (timeout)
+    private fun awaitTurn(lockId: Long, sysId: Int, keyId: Int, key: Any?, waiter: LockWaiter, deadline: Long): Int {
+        try {
+            val left = deadline - System.nanoTime()
+            if (left > 0)
+                waiter.latch.await(left, TimeUnit.NANOSECONDS)
+        } catch (e: InterruptedException) {
+            val turn = synchronized(this) {
+                if (waiter.turn == WAITING)
+                    removeWaiter(lockId, waiter)
+                waiter.turn
+            }
+            // pass the turn on
+            if (turn == GRANTED && !passOn(lockId, sessionGeneration, null))
+                release(lockId, sysId, keyId, key, true)
+            if (turn == RETRY)
+                synchronized(this) { if (!ourLocks.containsKey(lockId)) wakeNext(lockId) }
+            throw e
+        }
+        synchronized(this) {
+            if (waiter.turn == WAITING)
+                removeWaiter(lockId, waiter)
+            return waiter.turn
+        }
+    }
+
+    // under lock
+    private fun removeWaiter(lockId: Long, waiter: LockWaiter) {
+        val list = waiters[lockId] ?: return
+        if (list.remove(waiter))
+            waiterCount--
+        if (list.isEmpty())
+            waiters.remove(lockId)
+    }
+
+    // under lock; waiter with the highest priority (raised by waiting time), the first of equal ones
+    private fun takeNext(lockId: Long): LockWaiter? {
+        val list = waiters[lockId] ?: return null
+        val now = System.nanoTime()
+        var best = list[0]
+        var bestPriority = best.priority + (now - best.since) / agingNanos
+        for (i in 1 until list.size) {
+            val w = list[i]
+            val priority = w.priority + (now - w.since) / agingNanos
+            if (priority > bestPriority) {
+                best = w
+                bestPriority = priority
+            }
+        }
+        removeWaiter(lockId, best)
+        return best
+    }
+
+    // under lock; key is free locally - next waiter tries to lock it
+    private fun wakeNext(lockId: Long) {
+        val next = takeNext(lockId) ?: return
+        next.turn = RETRY
+        next.latch.countDown()
+    }
+
+    // unlocks in db (if locked) and frees local lock
+    private fun release(lockId: Long, sysId: Int, keyId: Int, key: Any?, lockedDb: Boolean) {
+        if (lockedDb) {
+            val unlockEvent = KeyLockUnlockEvent()
+            unlockEvent.begin()
+            try {
+                if (key == null) lockProvider.unlock(sysId, keyId) else lockProvider.unlock(lockId)
+                unlockEvent.finish(sysId, keyId, true)
+            } catch (e: Throwable) {
+                unlockEvent.finish(sysId, keyId, false)
+                logger.error("Failed to release DB lock for $sysId-${key ?: keyId}", e)
+                listener?.onDbError(sysId, keyId, e)
+            }
+        }
+        if (namespaceLocks && synchronized(this) { leaveNamespace(sysId) }) {
+            try {
+                lockProvider.unlockNamespace(sysId, true)
+            } catch (e: Throwable) {
+                logger.error("Failed to release DB namespace lock for $sysId", e)
+            }
+        }
+        synchronized(this) {
+            if (lockedDb && lostLocks.contains(lockId)) {
+                logger.warn("DB lock for $sysId-${key ?: keyId} was lost (with session) before release")
+                listener?.onLockLost(sysId, keyId)
+            }
+            releaseLocal(lockId)
+        }
+    }
+
+    /**
+     * Is the key locked by this manager and its db lock is not lost (with session).
+     * Long tasks can check it between steps (KeyLockListener.onSessionLost to be notified).
+     * Lock, being acquired at the moment of session loss, can be reported as lost too.
+     */
+    fun isHeld(sysId: Int, keyId: Int): Boolean = isHeldId(LockKeyHash.pack(sysId, keyId))
+
+    fun isHeld(namespace: Int, key: CharSequence): Boolean = isHeldId(LockKeyHash.hash64(namespace, key))
+
+    fun isHeld(namespace: Int, key: UUID): Boolean = isHeldId(LockKeyHash.hash64(namespace, key))
+
+    private fun isHeldId(lockId: Long): Boolean = synchronized(this) {
+        (ourLocks.containsKey(lockId) || stickyLocks.containsKey(lockId)) && !lostLocks.contains(lockId)
+    }
+
+    // locks of lost session are marked (released after task as usual), idle ones are dropped
+    private fun onSessionLost(lost: (Long) -> Boolean) {
+        synchronized(this) {
+            sessionGeneration++
+            for (lockId in ourLocks.keys) {
+                if (lost(lockId))
+                    lostLocks.add(lockId)
+            }
+            for (sysId in namespaceKeys.keys) {
+                if (lost(LockKeyHash.pack(sysId, 0)))
+                    lostNamespaces.add(sysId)
+            }
+        }
+        releaseStickyWhere { lockId, _ -> lost(lockId) }
+    }
+
+    // after task - hands the key over to the next waiter or moves lock to idle ones (stickyIdle) instead of unlocking
+    // (generation - of session, when db lock was known to be held)
+    private fun passOn(lockId: Long, generation: Long, sticky: StickyLock?): Boolean {
+        if (waiterCount == 0 && (stickyIdleNanos == 0L || sticky == null))
+            return false // waiter, coming meanwhile, is woken on release
+        synchronized(this) {
+            if (lostLocks.contains(lockId))
+                return false // is not held in db - unlock and free locally
+            val next = takeNext(lockId)
+            if (next != null) {
+                next.turn = GRANTED
+                next.latch.countDown()
+                return true
+            }
+            if (stickyIdleNanos == 0L || sticky == null || closed || generation != sessionGeneration)
+                return false
+            ourLocks.remove(lockId)
+            sticky.lastUsed = System.nanoTime()
+            stickyLocks[lockId] = sticky
+            startSweeper()
+            return true
+        }
+    }
+
+    /** Releases idle (sticky) lock of key, if it is held. Returns false if not */
+    fun releaseSticky(sysId: Int, keyId: Int): Boolean = releaseStickyId(LockKeyHash.pack(sysId, keyId))
+
+    fun releaseSticky(namespace: Int, key: CharSequence): Boolean = releaseStickyId(LockKeyHash.hash64(namespace, key))
+
+    fun releaseSticky(namespace: Int, key: UUID): Boolean = releaseStickyId(LockKeyHash.hash64(namespace, key))
+
+    internal fun releaseStickyId(lockId: Long): Boolean {
+        val sticky = synchronized(this) {
+            val sticky = stickyLocks.remove(lockId) ?: return false
+            ourLocks[lockId] = sticky.localKey // is held while unlocking in db
+            sticky
+        }
+        release(lockId, sticky.sysId, sticky.keyId, sticky.key, true)
+        return true
+    }
+
+    // releases idle locks, unused for stickyIdle
+    internal fun releaseIdle(now: Long = System.nanoTime()): Int =
+        releaseStickyWhere { _, sticky -> now - sticky.lastUsed >= stickyIdleNanos }
+
+    internal fun waiterCount(): Int = waiterCount
+
+    internal fun stickyCount(): Int = synchronized(this) { stickyLocks.size }
+
+    /** Releases all idle (sticky) locks; locks are not kept after task anymore */
+    override fun close() {
+        synchronized(this) {
+            closed = true
+            sweeper?.shutdownNow()
+            sweeper = null
+        }
+        releaseStickyWhere { _, _ -> true }
+    }
+
+    private fun releaseStickyWhere(predicate: (Long, StickyLock) -> Boolean): Int {
+        val released = synchronized(this) {
+            if (stickyLocks.isEmpty())
+                return 0
+            val list = stickyLocks.entries.filter { predicate(it.key, it.value) }.map { it.key to it.value }
+            for ((lockId, sticky) in list) {
+                stickyLocks.remove(lockId)
+                ourLocks[lockId] = sticky.localKey
+            }
+            list
+        }
+        for ((lockId, sticky) in released)
+            release(lockId, sticky.sysId, sticky.keyId, sticky.key, true)
+        return released.size
+    }
+
+    // under lock; sweeper runs while idle locks exist
+    private fun startSweeper() {
+        if (sweeper != null)
+            return
+        val period = maxOf(1L, TimeUnit.NANOSECONDS.toMillis(stickyIdleNanos) / 4)
+        sweeper = Executors.newSingleThreadScheduledExecutor { r ->
+            Thread(r, "keylock-sticky-release").apply { isDaemon = true }
+        }.apply {
+            scheduleWithFixedDelay({
                 try {
-                    lockProvider.unlock(sysId, keyId)
+                    releaseIdle()
+                    stopSweeperIfIdle()
+                } catch (e: Exception) {
+                    logger.warn("Failed to release idle locks", e)
+                }
+            }, period, period, TimeUnit.MILLISECONDS)
+        }
+    }
+
+    private fun stopSweeperIfIdle() {
+        synchronized(this) {
+            if (stickyLocks.isNotEmpty())
+                return
+            sweeper?.shutdown()
+            sweeper = null
+        }
+    }
+
+    /**
+     * Exclusive lock of whole namespace (sysId) - while it is held, no key of sysId can be locked
+     * (by any instance), and it can't be acquired while any key of sysId is locked.
+     * Requires namespaceLocks = true (for all instances) and dao supporting namespace locks.
+     */
+    fun <T> runLockedNamespace(sysId: Int, taskFn: () -> T): T {
+        check(namespaceLocks) { "KeyLockManager is created without namespaceLocks" }
+        releaseStickyWhere { _, sticky -> sticky.sysId == sysId } // idle keys of namespace
+        synchronized(this) {
+            if ((namespaceKeys[sysId] ?: 0) > 0 || !ourNamespaces.add(sysId))
+                throw LockedResourceException("Namespace $sysId is already locked")
+            if (ourLocks.size + ourNamespaces.size + stickyLocks.size == 1) {
+                lockProvider.onFirstLock()
+                listener?.onFirstLock()
+            }
+        }
+        var locked = false
+        try {
+            if (!lockProvider.tryLockNamespace(sysId, false))
+                throw LockedResourceException("Can't acquire namespace lock for $sysId (pg)")
+            locked = true
+            return taskFn()
+        } finally {
+            if (locked) {
+                try {
+                    lockProvider.unlockNamespace(sysId, false)
                 } catch (e: Throwable) {
-                    logger.error("Failed to release DB lock for $keyId-$sysId", e)
+                    logger.error("Failed to release DB namespace lock for $sysId", e)
                 }
             }
             synchronized(this) {
-                ourLocks.remove(pair)
-                if (ourLocks.isEmpty()) {
-                    lockProvider.onLastUnlock() // release connection
+                ourNamespaces.remove(sysId)
+                releaseLocal(null)
+            }
+        }
+    }
+
+    // first key of namespace takes shared lock in db (outside of lock, the key is counted meanwhile),
+    // others wait for its outcome; lost one is retaken by the next key
+    private fun enterNamespace(sysId: Int): Boolean {
+        var taking: CountDownLatch? = null
+        while (taking == null) {
+            val pending = synchronized(this) {
+                if (ourNamespaces.contains(sysId))
+                    return false // exclusive is held by us
+                namespaceTaking[sysId] ?: run {
+                    val count = namespaceKeys[sysId] ?: 0
+                    namespaceKeys[sysId] = count + 1
+                    if (count > 0 && !lostNamespaces.contains(sysId))
+                        return true
+                    taking = CountDownLatch(1).also { namespaceTaking[sysId] = it }
+                    null
                 }
             }
+            pending?.await()
+        }
+        val generation = sessionGeneration
+        var locked = false
+        try {
+            locked = lockProvider.tryLockNamespace(sysId, true)
+            return locked
+        } finally {
+            synchronized(this) {
+                namespaceTaking.remove(sysId)
+                if (!locked) {
+                    val count = namespaceKeys.getValue(sysId)
+                    if (count > 1) {
+                        namespaceKeys[sysId] = count - 1
+                    } else {
+                        namespaceKeys.remove(sysId)
+                        lostNamespaces.remove(sysId)
+                    }
+                } else if (generation == sessionGeneration) {
+                    lostNamespaces.remove(sysId)
+                }
+                taking?.countDown()
+            }
+        }
+    }
+
+    // under lock; returns true, if the last key of namespace is to unlock shared lock in db
+    private fun leaveNamespace(sysId: Int): Boolean {
+        val count = namespaceKeys[sysId] ?: return false
+        if (count > 1) {
+            namespaceKeys[sysId] = count - 1
+            return false
+        }
+        namespaceKeys.remove(sysId)
+        return !lostNamespaces.remove(sysId) // lost one is not held
+    }
+
+    // under lock
+    private fun releaseLocal(lockId: Long?) {
+        if (lockId != null) {
+            ourLocks.remove(lockId)
+            lostLocks.remove(lockId)
+            if (waiterCount > 0)
+                wakeNext(lockId)
+        }
+        if (ourLocks.isEmpty() && ourNamespaces.isEmpty() && stickyLocks.isEmpty()) {
+            lockProvider.onLastUnlock() // release connection
+            listener?.onLastUnlock()
+        }
+    }
+
+    companion object {
+        // turn of waiter
+        private const val WAITING = 0
+        private const val GRANTED = 1
+        private const val RETRY = 2
+
+        private val INT_KEY = object : Any() {
+            override fun toString() = "(sysId, keyId)"
         }
     }
 }
@@ -0,0 +1,42 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Source of key release notifications for KeyLockReleaseWaiter
+ * (KeyLockPgNotificationSource - LISTEN of pg_notify, published by KeyLockManagerPgDao).
+ * Is used by one (listener) thread.
+ */
+interface KeyLockNotificationSource : AutoCloseable {
+    // waits up to timeoutMillis for notifications; returns their payloads (empty on timeout)
+    fun await(timeoutMillis: Int): List<String>
+
+    // sends notification to the channel (release requests of sticky locks)
+    fun publish(payload: String)
+
+    override fun close() {}
+}
@@ -0,0 +1,85 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import org.slf4j.LoggerFactory
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Releases idle (sticky) locks of manager on request of other instances
+ * (KeyLockReleaseWaiter with releaseRequests of the same channel).
+ * Requests are received by own thread; locks in use are not affected -
+ * they are released after task as usual.
+ *
+ *   KeyLockReleaseRequestListener(KeyLockPgNotificationSource(dataSource, "keylock_release_request"), lockManager)
+ */
+class KeyLockReleaseRequestListener(
+    private val source: KeyLockNotificationSource,
+    private val manager: KeyLockManager,
+) : AutoCloseable {
+    private val logger = LoggerFactory.getLogger(javaClass)
+
+    @Volatile private var running = true
+    private val thread = Thread(::listen, "keylock-release-request-listener").apply {
+        isDaemon = true
+        start()
+    }
+
+    override fun close() {
+        running = false
+        thread.interrupt()
+        try {
+            source.close()
+        } catch (e: Exception) {
+            logger.warn("Cannot close notification source", e)
+        }
+    }
+
+    private fun listen() {
+        while (running) {
+            try {
+                for (payload in source.await(POLL_MILLIS)) {
+                    val lockId = KeyLockReleaseWaiter.lockIdOf(payload) ?: continue
+                    manager.releaseStickyId(lockId)
+                }
+            } catch (e: Exception) {
+                if (!running)
+                    break
+                logger.warn("Failed to receive lock release requests: {}", e.message)
+                try {
+                    Thread.sleep(RETRY_MILLIS)
+                } catch (e: InterruptedException) {
+                    break
+                }
+            }
+        }
+    }
+
+    companion object {
+        private const val POLL_MILLIS = 1000
+        private const val RETRY_MILLIS = 1000L
+    }
+}
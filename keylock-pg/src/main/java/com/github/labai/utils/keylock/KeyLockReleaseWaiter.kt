@@ -0,0 +1,184 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import org.slf4j.LoggerFactory
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Waiting for lock without polling.
+ *
+ * If key is locked, waits until release notification of key comes
+ * (from other instances - KeyLockManagerPgDao(notifyChannel)), then tries again.
+ * Notifications are received by own thread from source (one LISTEN connection per instance)
+ * and dispatched to local waiters of the key.
+ * Waiter tries again after recheckInterval anyway (in case of lost notification)
+ * and after failure of source (all waiters).
+ *
+ *   val waiter = KeyLockReleaseWaiter(KeyLockPgNotificationSource(dataSource, "keylock_release"))
+ *   waiter.runLocked(lockManager, 1, 101, Duration.ofSeconds(10)) { ... }
+ *
+ * With releaseRequests, waiter asks holder to release idle (sticky) lock of the key
+ * (once per wait, holder listens by KeyLockReleaseRequestListener).
+ */
+class KeyLockReleaseWaiter @JvmOverloads constructor(
+    private val source: KeyLockNotificationSource,
+    private val recheckInterval: Duration = Duration.ofSeconds(5),
+    private val releaseRequests: KeyLockNotificationSource? = null,
+) : AutoCloseable {
+    private val logger = LoggerFactory.getLogger(javaClass)
+
+    private class Waiter {
+        val latch = CountDownLatch(1)
+    }
+
+    // payload (key) -> waiters
+    private val waiters = ConcurrentHashMap<String, MutableSet<Waiter>>()
+
+    @Volatile private var running = true
+    private val thread = Thread(::listen, "keylock-release-listener").apply {
+        isDaemon = true
+        start()
+    }
+
+    // runs task with lock; if key is locked - waits for its release (up to timeout), then throws LockedResourceException
+    fun <T> runLocked(manager: KeyLockManager, sysId: Int, keyId: Int, timeout: Duration, taskFn: () -> T): T {
+        return runWaiting(payload(sysId, keyId), timeout, { manager.runLocked(sysId, keyId, it) }, taskFn)
+    }
+
+    fun <T> runLocked(manager: KeyLockManager, namespace: Int, key: CharSequence, timeout: Duration, taskFn: () -> T): T {
+        return runWaiting(payload(LockKeyHash.hash64(namespace, key)), timeout, { manager.runLocked(namespace, key, it) }, taskFn)
+    }
+
+    private fun <T> runWaiting(payload: String, timeout: Duration, lockFn: (() -> T) -> T, taskFn: () -> T): T {
+        val deadline = System.nanoTime() + timeout.toNanos()
+        var requested = false
+        while (true) {
+            // registered before try - release between failed try and wait is not lost
+            val waiter = register(payload)
+            var started = false
+            try {
+                return lockFn {
+                    started = true
+                    taskFn()
+                }
+            } catch (e: LockedResourceException) {
+                if (started)
+                    throw e // from task
+                val left = deadline - System.nanoTime()
+                if (left <= 0)
+                    throw e
+                if (releaseRequests != null && !requested) {
+                    requested = true
+                    requestRelease(payload)
+                }
+                waiter.latch.await(minOf(left, recheckInterval.toNanos()), TimeUnit.NANOSECONDS)
+            } finally {
+                unregister(payload, waiter)
+            }
+        }
+    }
+
+    override fun close() {
+        running = false
+        thread.interrupt()
+        try {
+            source.close()
+        } catch (e: Exception) {
+            logger.warn("Cannot close notification source", e)
+        }
+    }
+
+    private fun requestRelease(payload: String) {
+        try {
+            releaseRequests!!.publish(payload)
+        } catch (e: Exception) {
+            logger.warn("Failed to request release of lock {}: {}", payload, e.message)
+        }
+    }
+
+    internal fun waiterCount(): Int = waiters.values.sumOf { it.size }
+
+    private fun listen() {
+        while (running) {
+            try {
+                for (payload in source.await(POLL_MILLIS))
+                    waiters[payload]?.forEach { it.latch.countDown() }
+            } catch (e: Exception) {
+                if (!running)
+                    break
+                logger.warn("Failed to receive lock release notifications: {}", e.message)
+                waiters.values.forEach { set -> set.forEach { it.latch.countDown() } } // could miss some - try again
+                try {
+                    Thread.sleep(RETRY_MILLIS)
+                } catch (e: InterruptedException) {
+                    break
+                }
+            }
+        }
+    }
+
+    private fun register(payload: String): Waiter {
+        val waiter = Waiter()
+        waiters.compute(payload) { _, set -> (set ?: ConcurrentHashMap.newKeySet()).apply { add(waiter) } }
+        return waiter
+    }
+
+    private fun unregister(payload: String, waiter: Waiter) {
+        waiters.computeIfPresent(payload) { _, set ->
+            set.remove(waiter)
+            if (set.isEmpty()) null else set
+        }
+    }
+
+    companion object {
+        private const val POLL_MILLIS = 1000
+        private const val RETRY_MILLIS = 1000L
+
+        // notification payload of released key
+        @JvmStatic
+        fun payload(sysId: Int, keyId: Int): String = "$sysId:$keyId"
+
+        @JvmStatic
+        fun payload(lockId: Long): String = "#$lockId"
+
+        // lock id (as in KeyLockManager) of payload, null if payload is not recognized
+        internal fun lockIdOf(payload: String): Long? {
+            if (payload.startsWith("#"))
+                return payload.substring(1).toLongOrNull()
+            val pos = payload.indexOf(':')
+            if (pos < 0)
+                return null
+            val sysId = payload.substring(0, pos).toIntOrNull() ?: return null
+            val keyId = payload.substring(pos + 1).toIntOrNull() ?: return null
+            return LockKeyHash.pack(sysId, keyId)
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import javax.sql.DataSource
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * Lock sessions (connections) shared by several KeyLockManagers of the process.
+ *
+ *   val hub = KeyLockSessionHub(dataSource, KeyLockManagerPgDao())
+ *   val ordersLocks = KeyLockManager(hub.register())
+ *   val paymentsLocks = KeyLockManager(hub.register())
+ *
+ * Each manager keeps own registry of its locks, but all use `sessions` connections of hub
+ * (key is routed to session by hash, as in KeyLockConnProviderSharded).
+ * Session connection is taken on first lock of it and closed when no lock of it is left.
+ *
+ * Advisory locks are reentrant for the same session, so hub keeps owner of each locked key -
+ * managers exclude each other as if they were separate instances.
+ * The same for namespace locks - hub keeps their shared holders and exclusive owner
+ * (in the same session exclusive lock doesn't conflict with shared one).
+ */
+class KeyLockSessionHub @JvmOverloads constructor(
+    dataSource: DataSource,
+    dao: IKeyLockDaoProvider,
+    sessions: Int = 1,
+    listener: KeyLockListener? = null,
+    validationInterval: Duration? = null,
+) {
+    private val sessionProvider = KeyLockConnProviderSharded(List(sessions) { dataSource }, dao, listener = listener, validationInterval = validationInterval)
+    private val owners = ConcurrentHashMap<Long, Member>()
+
+    // sysId -> holders of namespace lock (guarded by namespaces)
+    private class NamespaceHolders {
+        var exclusive: Member? = null
+        val shared = HashMap<Member, Int>() // member -> count of its shared locks in db
+    }
+    private val namespaces = HashMap<Int, NamespaceHolders>()
+
+    init {
+        // namespace locks of lost session are gone for all members
+        sessionProvider.addSessionLostHandler { lost ->
+            synchronized(namespaces) {
+                namespaces.keys.removeIf { lost(LockKeyHash.pack(it, 0)) }
+            }
+        }
+    }
+
+    // provider for a new KeyLockManager
+    fun register(): KeyLockConnProvider = Member()
+
+    fun lockCount(): Int = owners.size
+
+    private inner class Member : KeyLockConnProvider {
+        // sessions are opened and closed by hub
+        override fun onFirstLock() {
+        }
+
+        override fun onLastUnlock() {
+        }
+
+        override fun addSessionLostHandler(handler: (lost: (Long) -> Boolean) -> Unit) {
+            sessionProvider.addSessionLostHandler(handler)
+        }
+
+        override fun tryLock(sysId: Int, keyId: Int): Boolean {
+            return tryLock(LockKeyHash.pack(sysId, keyId)) { sessionProvider.tryLock(sysId, keyId) }
+        }
+
+        override fun unlock(sysId: Int, keyId: Int) {
+            unlock(LockKeyHash.pack(sysId, keyId)) { sessionProvider.unlock(sysId, keyId) }
+        }
+
+        override fun tryLock(lockId: Long): Boolean {
+            return tryLock(lockId) { sessionProvider.tryLock(lockId) }
+        }
+
+        override fun unlock(lockId: Long) {
+            unlock(lockId) { sessionProvider.unlock(lockId) }
+        }
+
+        override fun supportsNamespaceLocks(): Boolean = sessionProvider.supportsNamespaceLocks()
+
+        override fun tryLockNamespace(sysId: Int, shared: Boolean): Boolean {
+            synchronized(namespaces) {
+                val holders = namespaces.getOrPut(sysId) { NamespaceHolders() }
+                if (holders.exclusive != null || (!shared && holders.shared.isNotEmpty()))
+                    return false // locked by other manager
+                if (shared) holders.shared.merge(this, 1, Int::plus) else holders.exclusive = this
+            }
+            var locked = false
+            try {
+                locked = sessionProvider.tryLockNamespace(sysId, shared)
+                return locked
+            } finally {
+                if (!locked)
+                    forgetNamespace(sysId, shared)
+            }
+        }
+
+        override fun unlockNamespace(sysId: Int, shared: Boolean) {
+            synchronized(namespaces) {
+                val holders = namespaces[sysId] ?: return
+                if (if (shared) !holders.shared.containsKey(this) else holders.exclusive !== this)
+                    return // not ours (or lost with session)
+            }
+            try {
+                sessionProvider.unlockNamespace(sysId, shared)
+            } finally {
+                forgetNamespace(sysId, shared)
+            }
+        }
+
+        private fun forgetNamespace(sysId: Int, shared: Boolean) {
+            synchronized(namespaces) {
+                val holders = namespaces[sysId] ?: return
+                if (shared)
+                    holders.shared.computeIfPresent(this) { _, count -> if (count > 1) count - 1 else null }
+                else if (holders.exclusive === this)
+                    holders.exclusive = null
+                if (holders.exclusive == null && holders.shared.isEmpty())
+                    namespaces.remove(sysId)
+            }
+        }
+
+        private inline fun tryLock(key: Long, lockFn: () -> Boolean): Boolean {
+            if (owners.putIfAbsent(key, this) != null)
+                return false // locked by other manager
+            var locked = false
+            try {
+                locked = lockFn()
+                return locked
+            } finally {
+                if (!locked)
+                    owners.remove(key, this)
+            }
+        }
+
+        private inline fun unlock(key: Long, unlockFn: () -> Unit) {
+            if (owners[key] !== this)
+                return
+            try {
+                unlockFn()
+            } finally {
+                owners.remove(key, this)
+            }
+        }
+    }
+}
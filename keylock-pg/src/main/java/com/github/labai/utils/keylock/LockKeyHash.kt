@@ -0,0 +1,97 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock
+
+import java.util.UUID
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * 64 bit lock id of (namespace, key) for single bigint advisory locks.
+ *
+ * Hash is calculated on chars directly (4 chars per block, murmur3 x64 style mixing),
+ * without encoding to bytes, so nothing is allocated.
+ * The function is fixed - all instances (and versions) must produce the same ids for the same keys.
+ */
+object LockKeyHash {
+    private const val C1 = -0x783c846eeebdac2bL // 0x87c37b91114253d5
+    private const val C2 = 0x4cf5ad432745937fL
+
+    @JvmStatic
+    fun hash64(namespace: Int, key: CharSequence): Long {
+        var h = seed(namespace)
+        val len = key.length
+        var i = 0
+        while (i + 4 <= len) {
+            val block = key[i].code.toLong() or
+                (key[i + 1].code.toLong() shl 16) or
+                (key[i + 2].code.toLong() shl 32) or
+                (key[i + 3].code.toLong() shl 48)
+            h = mixBlock(h, block)
+            i += 4
+        }
+        if (i < len) {
+            var block = 0L
+            var shift = 0
+            while (i < len) {
+                block = block or (key[i++].code.toLong() shl shift)
+                shift += 16
+            }
+            h = h xor mixKey(block)
+        }
+        return fmix64(h xor len.toLong())
+    }
+
+    @JvmStatic
+    fun hash64(namespace: Int, key: UUID): Long {
+        var h = seed(namespace)
+        h = mixBlock(h, key.mostSignificantBits)
+        h = mixBlock(h, key.leastSignificantBits)
+        return fmix64(h xor 16)
+    }
+
+    // (int, int) key as one long (the same as 2 int lock splits it)
+    @JvmStatic
+    fun pack(sysId: Int, keyId: Int): Long = (sysId.toLong() shl 32) or (keyId.toLong() and 0xffffffffL)
+
+    private fun seed(namespace: Int): Long = fmix64(namespace.toLong() xor 0x5bd1e9955bd1e995L)
+
+    private fun mixKey(k: Long): Long = java.lang.Long.rotateLeft(k * C1, 31) * C2
+
+    private fun mixBlock(h: Long, k: Long): Long = java.lang.Long.rotateLeft(h xor mixKey(k), 27) * 5 + 0x52dce729
+
+    // murmur3 finalizer, also for shard and slot of lock id
+    @JvmStatic
+    @JvmName("fmix64")
+    internal fun fmix64(value: Long): Long {
+        var h = value
+        h = h xor (h ushr 33)
+        h *= -0xae502812aa7333L
+        h = h xor (h ushr 33)
+        h *= -0x3b314601e57a13adL
+        h = h xor (h ushr 33)
+        return h
+    }
+}
@@ -0,0 +1,164 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+
+/*
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * Lock table in memory mapped file, shared by processes of the same host.
+ *
+ * Each key has one slot (by hash of lock id), slot is 2 longs:
+ *   - state: key fingerprint (32 bits) | owner pid (32 bits), 0 - free; changed by CAS only
+ *   - owner process start time (millis) - to detect reused pid
+ * Slot is claimed in 2 steps: CAS of state with CLAIMING flag, then start time is written
+ * and flag is cleared. Start time of flagged slot isn't compared (it can be of previous owner).
+ * If slot is taken by other key, the key is not tracked here (BYPASS) - db decides.
+ * Slots of dead processes are taken over.
+ *
+ * for internal keylock usage!
+ */
+final class MappedLockTable {
+    static final int CLAIMED = 0; // claimed by us - go to db
+    static final int HELD = 1;    // held by other (live) process or by this process
+    static final int BYPASS = 2;  // slot is used by other key - go to db
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final int SLOT_BYTES = 16;
+    private static final long CLAIMING = 1L << 31; // in pid part - start time is not written yet
+
+    private final MappedByteBuffer buffer;
+    private final int mask;
+    private final int pid;
+    private final long startMillis;
+
+    MappedLockTable(Path file, int slots) throws IOException {
+        if (slots <= 0 || Integer.bitCount(slots) != 1)
+            throw new IllegalArgumentException("slots must be power of 2");
+        long size = (long) slots * SLOT_BYTES;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long existing = channel.size();
+            if (existing != 0 && existing != size)
+                throw new IllegalArgumentException("Lock table file " + file + " has size " + existing + ", expected " + size + " (" + slots + " slots)");
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        mask = slots - 1;
+        ProcessHandle current = ProcessHandle.current();
+        pid = (int) current.pid();
+        startMillis = startMillis(current);
+    }
+
+    int claim(long lockId) {
+        long hash = LockKeyHash.fmix64(lockId);
+        int idx = slotIndex(hash);
+        int fp = fingerprint(hash);
+        long mine = state(fp, pid);
+        while (true) {
+            long state = (long) LONGS.getVolatile(buffer, idx);
+            if (state == 0) {
+                if (LONGS.compareAndSet(buffer, idx, 0L, mine | CLAIMING)) {
+                    publish(idx, mine);
+                    return CLAIMED;
+                }
+                continue;
+            }
+            boolean sameKey = (int) (state >>> 32) == fp;
+            if (ownerPid(state) == pid || isAlive(idx, state))
+                return sameKey ? HELD : BYPASS;
+            // owner is dead - take over
+            if (LONGS.compareAndSet(buffer, idx, state, mine | CLAIMING)) {
+                publish(idx, mine);
+                return CLAIMED;
+            }
+        }
+    }
+
+    void release(long lockId) {
+        long hash = LockKeyHash.fmix64(lockId);
+        int idx = slotIndex(hash);
+        LONGS.compareAndSet(buffer, idx, state(fingerprint(hash), pid), 0L);
+    }
+
+    // for tests - put entry of other process
+    void put(long lockId, long ownerPid, long ownerStartMillis) {
+        put(lockId, ownerPid, ownerStartMillis, false);
+    }
+
+    void put(long lockId, long ownerPid, long ownerStartMillis, boolean claiming) {
+        long hash = LockKeyHash.fmix64(lockId);
+        int idx = slotIndex(hash);
+        LONGS.setVolatile(buffer, idx + 8, ownerStartMillis);
+        LONGS.setVolatile(buffer, idx, state(fingerprint(hash), (int) ownerPid) | (claiming ? CLAIMING : 0));
+    }
+
+    // slot is ours (flagged) - start time is written before state without flag is visible
+    private void publish(int idx, long mine) {
+        LONGS.setVolatile(buffer, idx + 8, startMillis);
+        LONGS.setVolatile(buffer, idx, mine);
+    }
+
+    private boolean isAlive(int idx, long state) {
+        Optional<ProcessHandle> handle = ProcessHandle.of(ownerPid(state));
+        if (!handle.isPresent() || !handle.get().isAlive())
+            return false;
+        if ((state & CLAIMING) != 0)
+            return true; // start time is not written yet
+        long ownerStart = (long) LONGS.getVolatile(buffer, idx + 8);
+        long actualStart = startMillis(handle.get());
+        // pid reused by other process (0 - not known yet or not available)
+        return ownerStart == 0 || actualStart == 0 || ownerStart == actualStart;
+    }
+
+    private int slotIndex(long hash) {
+        return ((int) hash & mask) * SLOT_BYTES;
+    }
+
+    private static int fingerprint(long hash) {
+        int fp = (int) (hash >>> 32);
+        return fp == 0 ? 1 : fp;
+    }
+
+    private static int ownerPid(long state) {
+        return (int) (state & ~CLAIMING);
+    }
+
+    private static long state(int fp, int pid) {
+        return ((long) fp << 32) | (pid & 0xffffffffL);
+    }
+
+    private static long startMillis(ProcessHandle handle) {
+        return handle.info().startInstant().map(Instant::toEpochMilli).orElse(0L);
+    }
+}
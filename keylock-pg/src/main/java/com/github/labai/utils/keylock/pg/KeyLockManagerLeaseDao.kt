@@ -0,0 +1,217 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock.pg
+
+import com.github.labai.utils.keylock.IKeyLockDaoProvider
+import org.intellij.lang.annotations.Language
+import org.slf4j.LoggerFactory
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.SQLException
+import java.time.Duration
+import java.util.UUID
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.TimeUnit
+import javax.sql.DataSource
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * locks as leases in table - works with any connection of pool
+ * (e.g. PgBouncer in transaction pooling mode), as nothing is bound to session.
+ * Use with KeyLockConnProviderPooled.
+ *
+ *  - tryLock - insert lease, or take over expired one (insert ... on conflict), one statement
+ *  - unlock - delete lease
+ *  - heartbeat (background) - renews all leases of owner by one update,
+ *    purges expired leases (for update skip locked - instances don't wait for each other)
+ *
+ * Every call is one short transaction (committed if connection is not in autocommit).
+ * Lease of crashed instance expires after leaseTtl.
+ * Locks are reentrant for the same owner - use separate dao (ownerId) for each KeyLockManager.
+ *
+ * Table (see createTable):
+ *   keylock_lease (sys_id int, key_id int, owner_id varchar(64), expires_at timestamptz, pk(sys_id, key_id))
+ */
+class KeyLockManagerLeaseDao(
+    private val dataSource: DataSource, // for heartbeat
+    val leaseTtl: Duration = Duration.ofSeconds(30),
+    val ownerId: String = UUID.randomUUID().toString(),
+    private val table: String = "keylock_lease",
+) : IKeyLockDaoProvider, AutoCloseable {
+    private val logger = LoggerFactory.getLogger(javaClass)
+
+    private val held: MutableSet<Pair<Int, Int>> = ConcurrentHashMap.newKeySet()
+    private var heartbeat: ScheduledExecutorService? = null // guarded by this
+
+    init {
+        require(table.matches(Regex("[A-Za-z_][A-Za-z0-9_.]*"))) { "Invalid table name '$table'" }
+        require(leaseTtl.toMillis() >= 100) { "leaseTtl is too short" }
+        require(ownerId.length <= 64) { "ownerId is too long" }
+    }
+
+    @Language("PostgreSQL")
+    private val createSql = """
+        create table if not exists $table (
+            sys_id int not null,
+            key_id int not null,
+            owner_id varchar(64) not null,
+            expires_at timestamptz not null,
+            primary key (sys_id, key_id)
+        )""".trimIndent()
+
+    @Language("PostgreSQL")
+    private val lockSql = """
+        insert into $table (sys_id, key_id, owner_id, expires_at)
+        values (?, ?, ?, now() + ? * interval '1 millisecond')
+        on conflict (sys_id, key_id) do update
+            set owner_id = excluded.owner_id, expires_at = excluded.expires_at
+            where $table.expires_at < now() or $table.owner_id = excluded.owner_id""".trimIndent()
+
+    @Language("PostgreSQL")
+    private val unlockSql = "delete from $table where sys_id = ? and key_id = ? and owner_id = ?"
+
+    @Language("PostgreSQL")
+    private val unlockAllSql = "delete from $table where owner_id = ? and expires_at >= now()"
+
+    @Language("PostgreSQL")
+    private val renewSql = "update $table set expires_at = now() + ? * interval '1 millisecond' where owner_id = ? and expires_at >= now()"
+
+    @Language("PostgreSQL")
+    private val purgeSql = """
+        delete from $table where ctid in (
+            select ctid from $table where expires_at < now() limit 100 for update skip locked)""".trimIndent()
+
+    fun createTable(conn: Connection) {
+        update(conn, createSql)
+    }
+
+    override fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean {
+        val locked = try {
+            update(conn, lockSql, sysId, keyId, ownerId, leaseTtl.toMillis()) > 0
+        } catch (e: SQLException) {
+            logger.info("lease lock {}-{} SQLException: {} {}", sysId, keyId, e.errorCode, e.message)
+            false
+        }
+        if (locked) {
+            held.add(Pair(sysId, keyId))
+            startHeartbeat()
+        }
+        return locked
+    }
+
+    override fun unlock(conn: Connection, sysId: Int, keyId: Int) {
+        held.remove(Pair(sysId, keyId))
+        try {
+            update(conn, unlockSql, sysId, keyId, ownerId)
+        } catch (e: SQLException) {
+            logger.info("lease unlock {}-{} SQLException: {} {}", sysId, keyId, e.errorCode, e.message)
+        }
+    }
+
+    override fun unlockAll(conn: Connection) {
+        held.clear()
+        try {
+            update(conn, unlockAllSql, ownerId)
+        } catch (e: SQLException) {
+            logger.info("lease unlockAll SQLException: {} {}", e.errorCode, e.message)
+        }
+    }
+
+    // renews all leases of owner, returns count of renewed
+    fun renew(): Int {
+        if (held.isEmpty())
+            return 0
+        val expected = held.size
+        val renewed = dataSource.connection.use { conn ->
+            val cnt = update(conn, renewSql, leaseTtl.toMillis(), ownerId)
+            update(conn, purgeSql)
+            cnt
+        }
+        if (renewed < expected)
+            logger.warn("Only {} of {} leases renewed for owner {} - some were lost (expired)", renewed, expected, ownerId)
+        return renewed
+    }
+
+    override fun close() {
+        synchronized(this) {
+            heartbeat?.shutdownNow()
+            heartbeat = null
+        }
+    }
+
+    private fun startHeartbeat() {
+        synchronized(this) {
+            if (heartbeat != null)
+                return
+            val period = leaseTtl.toMillis() / 3
+            heartbeat = Executors.newSingleThreadScheduledExecutor { r ->
+                Thread(r, "keylock-lease-heartbeat").apply { isDaemon = true }
+            }.apply {
+                scheduleWithFixedDelay({
+                    try {
+                        renew()
+                    } catch (e: Exception) {
+                        logger.warn("Lease heartbeat failed", e)
+                    }
+                }, period, period, TimeUnit.MILLISECONDS)
+            }
+        }
+    }
+
+    // in manual commit mode failed transaction is rolled back - connection stays usable
+    private fun update(conn: Connection, sql: String, vararg params: Any): Int {
+        try {
+            val res = conn.prepareStatement(sql).use { stmt ->
+                bind(stmt, params)
+                stmt.executeUpdate()
+            }
+            if (!conn.autoCommit)
+                conn.commit()
+            return res
+        } catch (e: SQLException) {
+            if (!conn.autoCommit) {
+                try {
+                    conn.rollback()
+                } catch (re: SQLException) {
+                    e.addSuppressed(re)
+                }
+            }
+            throw e
+        }
+    }
+
+    private fun bind(stmt: PreparedStatement, params: Array<out Any>) {
+        params.forEachIndexed { i, param ->
+            when (param) {
+                is Int -> stmt.setInt(i + 1, param)
+                is Long -> stmt.setLong(i + 1, param)
+                else -> stmt.setString(i + 1, param.toString())
+            }
+        }
+    }
+}
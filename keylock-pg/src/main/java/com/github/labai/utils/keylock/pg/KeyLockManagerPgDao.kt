@@ -26,6 +26,8 @@ package com.github.labai.utils.keylock.pg
 import org.intellij.lang.annotations.Language
 import org.slf4j.LoggerFactory
 import com.github.labai.utils.keylock.IKeyLockDaoProvider
+import com.github.labai.utils.keylock.KeyLockListener
+import com.github.labai.utils.keylock.KeyLockReleaseWaiter
 import java.sql.Connection
 import java.sql.SQLException
 
@@ -34,10 +36,24 @@ import java.sql.SQLException
  *         created on 2021.02.09
  *
  * use advisory lock in PostgreSql mechanism
+ *
+ * notifyChannel - if set, release of key publishes pg_notify(notifyChannel, key)
+ * (in the same round trip) - for KeyLockReleaseWaiter of other instances
+ *
+ * SQL errors are logged and lock is treated as not acquired, except broken connection -
+ * it is thrown (KeyLockConnProviderDb replaces the session).
+ * listener gets onDbError of them (e.g. KeyLockAdaptiveLimiter - counts attempt as failed)
  */
-class KeyLockManagerPgDao : IKeyLockDaoProvider {
+class KeyLockManagerPgDao @JvmOverloads constructor(
+    private val notifyChannel: String? = null,
+    private val listener: KeyLockListener? = null,
+) : IKeyLockDaoProvider {
     private val logger = LoggerFactory.getLogger(javaClass)
 
+    init {
+        require(notifyChannel == null || notifyChannel.matches(Regex("[a-z_][a-z0-9_]*"))) { "Invalid channel name '$notifyChannel'" }
+    }
+
     // transaction level lock - will release lock at end of transaction
     fun advisoryTxLockTask(connection: Connection, typeId: Int, lockKeyId: Int): Boolean {
         @Language("PostgreSQL")
@@ -46,6 +62,8 @@ class KeyLockManagerPgDao : IKeyLockDaoProvider {
         try {
             res = PgSqlSelect.selectAsLongWithParam(connection, sql, Pair(typeId, lockKeyId))
         } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError(typeId, lockKeyId, e)
             logger.info("advisory tx lock {} SQLException: {} {}", lockKeyId, e.errorCode, e.message)
             return false
         }
@@ -60,6 +78,8 @@ class KeyLockManagerPgDao : IKeyLockDaoProvider {
         try {
             res = PgSqlSelect.selectAsLongWithParam(connection, sql, Pair(typeId, lockKeyId))
         } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError(typeId, lockKeyId, e)
             logger.info("advisory session lock {} SQLException: {} {}", lockKeyId, e.errorCode, e.message)
             return false
         }
@@ -71,20 +91,100 @@ class KeyLockManagerPgDao : IKeyLockDaoProvider {
         val sql = "select case when pg_advisory_unlock(?, ?) then 1 else 0 end as longVal"
         val res: Long?
         try {
-            res = PgSqlSelect.selectAsLongWithParam(connection, sql, Pair(typeId, lockKeyId))
+            res = if (notifyChannel == null)
+                PgSqlSelect.selectAsLongWithParam(connection, sql, Pair(typeId, lockKeyId))
+            else
+                PgSqlSelect.selectAsLongWithParams(connection, "$sql; select pg_notify('$notifyChannel', ?)",
+                    typeId, lockKeyId, KeyLockReleaseWaiter.payload(typeId, lockKeyId))
         } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError(typeId, lockKeyId, e)
             logger.info("advisory session unlock {} SQLException: {} {}", lockKeyId, e.errorCode, e.message)
             return false
         }
         return (res ?: 0) > 0
     }
 
+    // single bigint key - separate lock space from (int, int) keys
+    private fun advisorySessionLock64(connection: Connection, lockId: Long): Boolean {
+        @Language("PostgreSQL")
+        val sql = "select case when pg_try_advisory_lock(?) then 1 else 0 end as longVal"
+        val res: Long?
+        try {
+            res = PgSqlSelect.selectAsLongWithLongParam(connection, sql, lockId)
+        } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError((lockId ushr 32).toInt(), lockId.toInt(), e)
+            logger.info("advisory session lock {} SQLException: {} {}", lockId, e.errorCode, e.message)
+            return false
+        }
+        return (res ?: 0) > 0
+    }
+
+    private fun advisorySessionUnlock64(connection: Connection, lockId: Long): Boolean {
+        @Language("PostgreSQL")
+        val sql = "select case when pg_advisory_unlock(?) then 1 else 0 end as longVal"
+        val res: Long?
+        try {
+            res = if (notifyChannel == null)
+                PgSqlSelect.selectAsLongWithLongParam(connection, sql, lockId)
+            else
+                PgSqlSelect.selectAsLongWithParams(connection, "$sql; select pg_notify('$notifyChannel', ?)",
+                    lockId, KeyLockReleaseWaiter.payload(lockId))
+        } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError((lockId ushr 32).toInt(), lockId.toInt(), e)
+            logger.info("advisory session unlock {} SQLException: {} {}", lockId, e.errorCode, e.message)
+            return false
+        }
+        return (res ?: 0) > 0
+    }
+
+    // namespace lock - single bigint key NAMESPACE_PREFIX | sysId, shared or exclusive
+    private fun advisoryNamespaceLock(connection: Connection, sysId: Int, shared: Boolean): Boolean {
+        @Language("PostgreSQL")
+        val sql = if (shared)
+            "select case when pg_try_advisory_lock_shared(?) then 1 else 0 end as longVal"
+        else
+            "select case when pg_try_advisory_lock(?) then 1 else 0 end as longVal"
+        val res: Long?
+        try {
+            res = PgSqlSelect.selectAsLongWithLongParam(connection, sql, namespaceLockId(sysId))
+        } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError(sysId, 0, e)
+            logger.info("advisory namespace lock {} SQLException: {} {}", sysId, e.errorCode, e.message)
+            return false
+        }
+        return (res ?: 0) > 0
+    }
+
+    private fun advisoryNamespaceUnlock(connection: Connection, sysId: Int, shared: Boolean): Boolean {
+        @Language("PostgreSQL")
+        val sql = if (shared)
+            "select case when pg_advisory_unlock_shared(?) then 1 else 0 end as longVal"
+        else
+            "select case when pg_advisory_unlock(?) then 1 else 0 end as longVal"
+        val res: Long?
+        try {
+            res = PgSqlSelect.selectAsLongWithLongParam(connection, sql, namespaceLockId(sysId))
+        } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError(sysId, 0, e)
+            logger.info("advisory namespace unlock {} SQLException: {} {}", sysId, e.errorCode, e.message)
+            return false
+        }
+        return (res ?: 0) > 0
+    }
+
     private fun advisorySessionUnlockAll(connection: Connection) {
         @Language("PostgreSQL")
         val sql = "select pg_advisory_unlock_all()"
         try {
             PgSqlSelect.selectAsLongWithParam(connection, sql, null)
         } catch (e: SQLException) {
+            rethrowIfBroken(e)
+            listener?.onDbError(0, 0, e)
             logger.info("advisory session unlockAll {} SQLException: {} {}", "all", e.errorCode, e.message)
             return
         }
@@ -101,4 +201,37 @@ class KeyLockManagerPgDao : IKeyLockDaoProvider {
     override fun unlockAll(conn: Connection) {
         advisorySessionUnlockAll(conn)
     }
+
+    override fun tryLock(conn: Connection, lockId: Long): Boolean {
+        return advisorySessionLock64(conn, lockId)
+    }
+
+    override fun unlock(conn: Connection, lockId: Long) {
+        advisorySessionUnlock64(conn, lockId)
+    }
+
+    override fun supportsNamespaceLocks(): Boolean = true
+
+    override fun tryLockNamespace(conn: Connection, sysId: Int, shared: Boolean): Boolean {
+        return advisoryNamespaceLock(conn, sysId, shared)
+    }
+
+    override fun unlockNamespace(conn: Connection, sysId: Int, shared: Boolean) {
+        advisoryNamespaceUnlock(conn, sysId, shared)
+    }
+
+    companion object {
+        // connection is broken (class 08 - connection exception, 57P01..57P03 - server shutdown):
+        // must reach provider, which replaces the session (its locks are gone)
+        private fun rethrowIfBroken(e: SQLException) {
+            val state = e.sqlState ?: return
+            if (state.startsWith("08") || state == "57P01" || state == "57P02" || state == "57P03")
+                throw e
+        }
+
+        // "KLNS" - bigint lock space of namespaces (int pair keys are in other lock space)
+        private const val NAMESPACE_PREFIX = 0x4b4c4e53L shl 32
+
+        private fun namespaceLockId(sysId: Int): Long = NAMESPACE_PREFIX or (sysId.toLong() and 0xffffffffL)
+    }
 }
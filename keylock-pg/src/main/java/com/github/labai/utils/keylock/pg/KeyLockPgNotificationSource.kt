@@ -0,0 +1,98 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2021 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.keylock.pg
+
+import com.github.labai.utils.keylock.KeyLockNotificationSource
+import org.postgresql.PGConnection
+import java.sql.Connection
+import java.sql.SQLException
+import javax.sql.DataSource
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * LISTEN on channel by dedicated connection (taken on first await, again after failure).
+ * Notifications are waited for by driver on socket (PGConnection.getNotifications(timeout)) - no polling of db.
+ * Requires PostgreSql jdbc driver.
+ * publish() - pg_notify to the channel (for release requests of sticky locks).
+ */
+class KeyLockPgNotificationSource(
+    private val dataSource: DataSource,
+    private val channel: String,
+) : KeyLockNotificationSource {
+    @Volatile private var connection: Connection? = null
+
+    init {
+        require(channel.matches(Regex("[a-z_][a-z0-9_]*"))) { "Invalid channel name '$channel'" }
+    }
+
+    override fun await(timeoutMillis: Int): List<String> {
+        val conn = connection ?: listen()
+        try {
+            val notifications = conn.unwrap(PGConnection::class.java).getNotifications(maxOf(1, timeoutMillis))
+                ?: return emptyList()
+            return notifications.filter { it.name == channel }.map { it.parameter }
+        } catch (e: SQLException) {
+            close()
+            throw e
+        }
+    }
+
+    // by separate (short) connection - listening one is busy waiting
+    override fun publish(payload: String) {
+        dataSource.connection.use { conn ->
+            conn.prepareStatement("select pg_notify('$channel', ?)").use { stmt ->
+                stmt.setString(1, payload)
+                stmt.execute()
+            }
+            if (!conn.autoCommit)
+                conn.commit()
+        }
+    }
+
+    override fun close() {
+        val conn = connection ?: return
+        connection = null
+        try {
+            conn.close()
+        } catch (e: Exception) {
+            // already broken
+        }
+    }
+
+    private fun listen(): Connection {
+        val conn = dataSource.connection
+        try {
+            conn.createStatement().use { it.execute("listen $channel") }
+            if (!conn.autoCommit)
+                conn.commit()
+        } catch (e: SQLException) {
+            conn.close()
+            throw e
+        }
+        connection = conn
+        return conn
+    }
+}
@@ -67,6 +67,49 @@ class PgSqlSelect {
         });
     }
 
+    @Nullable
+    static Long selectAsLongWithLongParam(Connection connection, String sql, long param) throws SQLException {
+        return executeJdbc(connection, sql, stmt -> {
+            Long result = null;
+            stmt.setLong(1, param);
+            try (ResultSet resultSet = stmt.executeQuery()) {
+                while (resultSet.next()) {
+                    Object x = resultSet.getObject(1);
+                    if (x instanceof Number)
+                        result = ((Number) x).longValue();
+                }
+            }
+            return result;
+        });
+    }
+
+    // sql can have several statements (sent in one round trip), result - of the first one
+    @Nullable
+    static Long selectAsLongWithParams(Connection connection, String sql, Object... params) throws SQLException {
+        return executeJdbc(connection, sql, stmt -> {
+            for (int i = 0; i < params.length; i++) {
+                Object param = params[i];
+                if (param instanceof Integer)
+                    stmt.setInt(i + 1, (Integer) param);
+                else if (param instanceof Long)
+                    stmt.setLong(i + 1, (Long) param);
+                else
+                    stmt.setString(i + 1, String.valueOf(param));
+            }
+            Long result = null;
+            if (stmt.execute()) {
+                try (ResultSet resultSet = stmt.getResultSet()) {
+                    while (resultSet.next()) {
+                        Object x = resultSet.getObject(1);
+                        if (x instanceof Number)
+                            result = ((Number) x).longValue();
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
     private static <R> R executeJdbc(Connection connection, String sql, JdbcExecuteFunction<R> jdbcExecuteFn) throws SQLException {
         PreparedStatement stmt = null;
         try {
@@ -0,0 +1,182 @@
+package com.github.labai.utils.keylock
+
+import java.io.PrintWriter
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.SQLException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.logging.Logger
+import javax.sql.DataSource
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * in-memory stand-ins for tests without db:
+ *  - FakeDataSource - counts opened/closed connections, kill() - connections die (as on failover)
+ *  - FakeLockDao - advisory locks (session level, reentrant) in memory
+ *  - FakeLeaseTable - lease table, interprets statements of KeyLockManagerLeaseDao
+ */
+class FakeDataSource(val name: String, private val table: FakeLeaseTable? = null) : DataSource {
+    val opened = AtomicInteger()
+    val closed = AtomicInteger()
+    @Volatile var failConnect = false
+    @Volatile private var killedUpTo = 0
+
+    // connections opened till now are dead (isValid = false, locks are gone)
+    fun kill() {
+        killedUpTo = opened.get()
+    }
+
+    val openCount: Int get() = opened.get() - closed.get()
+
+    override fun getConnection(): Connection {
+        if (failConnect)
+            throw SQLException("Connection refused ($name)")
+        val id = opened.incrementAndGet()
+        var isClosed = false
+        return Proxy.newProxyInstance(javaClass.classLoader, arrayOf(Connection::class.java)) { proxy, method, args ->
+            when (method.name) {
+                "close" -> { if (!isClosed) closed.incrementAndGet(); isClosed = true; null }
+                "isClosed" -> isClosed
+                "isValid" -> !isClosed && !failConnect && id > killedUpTo
+                "getAutoCommit" -> true
+                "prepareStatement" -> statement(args[0] as String)
+                "unwrap" -> this@FakeDataSource
+                "toString" -> "conn($name)"
+                "hashCode" -> System.identityHashCode(proxy)
+                "equals" -> proxy === args[0]
+                else -> throw UnsupportedOperationException("Fake connection: ${method.name}")
+            }
+        } as Connection
+    }
+
+    private fun statement(sql: String): PreparedStatement {
+        val tbl = table ?: throw UnsupportedOperationException("Fake connection without table")
+        val params = HashMap<Int, Any?>()
+        return Proxy.newProxyInstance(javaClass.classLoader, arrayOf(PreparedStatement::class.java)) { _, method, args ->
+            when (method.name) {
+                "setInt", "setLong", "setString" -> { params[args[0] as Int] = args[1]; null }
+                "executeUpdate" -> tbl.execute(sql, List(params.size) { params[it + 1] })
+                "close" -> null
+                else -> throw UnsupportedOperationException("Fake statement: ${method.name}")
+            }
+        } as PreparedStatement
+    }
+
+    override fun getConnection(username: String?, password: String?): Connection = connection
+    override fun getLogWriter(): PrintWriter? = null
+    override fun setLogWriter(out: PrintWriter?) {}
+    override fun setLoginTimeout(seconds: Int) {}
+    override fun getLoginTimeout(): Int = 0
+    override fun getParentLogger(): Logger = throw UnsupportedOperationException()
+    override fun <T : Any?> unwrap(iface: Class<T>?): T = throw UnsupportedOperationException()
+    override fun isWrapperFor(iface: Class<*>?): Boolean = false
+}
+
+class FakeLockDao : IKeyLockDaoProvider {
+    // key -> (connection, count)
+    private val locks = HashMap<Pair<Int, Int>, Pair<Connection, Int>>()
+
+    // data source name of connection, holding lock
+    @Synchronized
+    fun holder(sysId: Int, keyId: Int): String? =
+        locks[Pair(sysId, keyId)]?.first?.unwrap(FakeDataSource::class.java)?.name
+
+    @Synchronized
+    fun lockCount(): Int = locks.values.count { it.first.isValid(0) } // of dead connections are gone
+
+    @Synchronized
+    override fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean {
+        if (!conn.isValid(0))
+            throw SQLException("Connection is dead")
+        val key = Pair(sysId, keyId)
+        val cur = locks[key]
+        if (cur != null && cur.first !== conn && cur.first.isValid(0))
+            return false
+        locks[key] = Pair(conn, (cur?.second ?: 0) + 1)
+        return true
+    }
+
+    @Synchronized
+    override fun unlock(conn: Connection, sysId: Int, keyId: Int) {
+        val key = Pair(sysId, keyId)
+        val cur = locks[key] ?: return
+        if (cur.first !== conn)
+            return
+        if (cur.second == 1) locks.remove(key) else locks[key] = Pair(conn, cur.second - 1)
+    }
+
+    @Synchronized
+    override fun unlockAll(conn: Connection) {
+        locks.entries.removeIf { it.value.first === conn }
+        namespaces.values.forEach { it.removeAll { (c, _) -> c === conn } }
+    }
+
+    // sysId -> (connection, shared) holders
+    private val namespaces = HashMap<Int, MutableList<Pair<Connection, Boolean>>>()
+    var namespaceCalls = 0
+
+    override fun supportsNamespaceLocks(): Boolean = true
+
+    @Synchronized
+    override fun tryLockNamespace(conn: Connection, sysId: Int, shared: Boolean): Boolean {
+        namespaceCalls++
+        val holders = namespaces.getOrPut(sysId) { mutableListOf() }
+        val others = holders.filter { it.first !== conn }
+        if (others.any { !it.second } || (!shared && others.isNotEmpty()))
+            return false
+        holders.add(Pair(conn, shared))
+        return true
+    }
+
+    @Synchronized
+    override fun unlockNamespace(conn: Connection, sysId: Int, shared: Boolean) {
+        namespaceCalls++
+        namespaces[sysId]?.remove(Pair(conn, shared))
+    }
+}
+
+// lease table with manual clock, recognizes statements by their shape
+class FakeLeaseTable {
+    class Lease(val owner: String, val expiresAt: Long)
+
+    val leases = HashMap<Pair<Int, Int>, Lease>()
+    var now = 0L
+    var statements = 0
+
+    @Synchronized
+    fun owner(sysId: Int, keyId: Int): String? = leases[Pair(sysId, keyId)]?.owner
+
+    @Synchronized
+    fun execute(sql: String, params: List<Any?>): Int {
+        statements++
+        val s = sql.replace(Regex("\\s+"), " ").trim()
+        return when {
+            s.startsWith("create table") -> 0
+            s.startsWith("insert into") && s.contains("on conflict") -> {
+                val key = Pair(params[0] as Int, params[1] as Int)
+                val owner = params[2] as String
+                val cur = leases[key]
+                if (cur != null && cur.expiresAt >= now && cur.owner != owner)
+                    return 0
+                leases[key] = Lease(owner, now + params[3] as Long)
+                1
+            }
+            s.startsWith("update") -> {
+                val owner = params[1] as String
+                var cnt = 0
+                leases.replaceAll { _, lease -> if (lease.owner == owner && lease.expiresAt >= now) Lease(owner, now + params[0] as Long).also { cnt++ } else lease }
+                cnt
+            }
+            s.startsWith("delete") && s.contains("skip locked") ->
+                leases.values.count { it.expiresAt < now }.also { leases.values.removeIf { it.expiresAt < now } }
+            s.startsWith("delete") && s.contains("key_id = ?") ->
+                if (leases[Pair(params[0] as Int, params[1] as Int)]?.owner == params[2]) { leases.remove(Pair(params[0] as Int, params[1] as Int)); 1 } else 0
+            s.startsWith("delete") ->
+                leases.values.count { it.owner == params[0] }.also { leases.values.removeIf { it.owner == params[0] } }
+            else -> throw UnsupportedOperationException("Fake table: $s")
+        }
+    }
+}
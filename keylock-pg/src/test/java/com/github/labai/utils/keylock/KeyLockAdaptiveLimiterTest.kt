@@ -0,0 +1,98 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.sql.Connection
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockAdaptiveLimiterTest {
+
+    @Test
+    internal fun test_excess_attempts_are_rejected() {
+        val limiter = KeyLockAdaptiveLimiter(initialLimit = 2, maxLimit = 2)
+        val start1 = limiter.acquire()
+        limiter.acquire()
+        assertThrows<KeyLockOverloadedException> { limiter.acquire() }
+        limiter.release(start1, true)
+        limiter.acquire()
+        assertEquals(2, limiter.inFlight())
+    }
+
+    @Test
+    internal fun test_limit_follows_latency() {
+        val limiter = KeyLockAdaptiveLimiter(initialLimit = 10, maxLimit = 20, latencyThreshold = Duration.ofSeconds(1))
+        repeat(5) {
+            limiter.acquire()
+            limiter.release(System.nanoTime() - Duration.ofSeconds(2).toNanos(), true) // slow
+        }
+        assertEquals(5, limiter.limit()) // 10 * 0.9^5
+        limiter.acquire()
+        limiter.release(0, false) // failed
+        assertEquals(5, limiter.limit())
+        val start = limiter.acquire()
+        limiter.onDbError(1, 1, RuntimeException("swallowed by dao"))
+        limiter.release(start, true)
+        assertEquals(4, limiter.limit()) // 5 * 0.9 * 0.9
+        limiter.onDbError(1, 1, RuntimeException("before attempt"))
+        limiter.release(limiter.acquire(), true)
+        assertEquals(4, limiter.limit())
+
+        repeat(200) {
+            val starts = List(limiter.limit()) { limiter.acquire() }
+            starts.forEach { limiter.release(it, true) }
+        }
+        assertEquals(20, limiter.limit())
+        assertEquals(0, limiter.inFlight())
+    }
+
+    @Test
+    internal fun test_waits_for_free_slot() {
+        val limiter = KeyLockAdaptiveLimiter(initialLimit = 1, maxLimit = 1, maxWait = Duration.ofSeconds(5))
+        val start = limiter.acquire()
+        val releaser = thread {
+            Thread.sleep(50)
+            limiter.release(start, true)
+        }
+        limiter.acquire()
+        releaser.join()
+
+        val short = KeyLockAdaptiveLimiter(initialLimit = 1, maxLimit = 1, maxWait = Duration.ofMillis(20))
+        short.acquire()
+        assertThrows<KeyLockOverloadedException> { short.acquire() }
+    }
+
+    @Test
+    internal fun test_provider_rejects_attempts_over_limit() {
+        val fake = FakeLockDao()
+        val entered = CountDownLatch(1)
+        val proceed = CountDownLatch(1)
+        val slowDao = object : IKeyLockDaoProvider by fake {
+            override fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean {
+                if (keyId == 1) {
+                    entered.countDown()
+                    proceed.await()
+                }
+                return fake.tryLock(conn, sysId, keyId)
+            }
+        }
+        val metrics = KeyLockHistogramListener()
+        val limiter = KeyLockAdaptiveLimiter(initialLimit = 1, maxLimit = 1)
+        val manager = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db"), slowDao, limiter = limiter), metrics)
+        val slow = thread { manager.runLocked(1, 1) { } }
+        entered.await()
+        assertThrows<KeyLockOverloadedException> { manager.runLocked(1, 2) { } }
+        proceed.countDown()
+        slow.join()
+        assertEquals("ok", manager.runLocked(1, 2) { "ok" })
+        assertEquals(1, metrics.snapshot().single().overloaded)
+        assertEquals(0, limiter.inFlight())
+        assertEquals(0, fake.lockCount())
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockConnProviderLocalTest {
+
+    @Test
+    internal fun test_exclusive_and_shared() {
+        val provider = KeyLockConnProviderLocal()
+        assertTrue(provider.tryLock(1, 10))
+        assertFalse(provider.tryLock(1, 10))
+        assertFalse(provider.tryLockShared(1, 10))
+        assertTrue(provider.tryLock(2, 10))
+        provider.unlockShared(1, 10) // not shared - nothing
+        provider.unlock(1, 10)
+
+        assertTrue(provider.tryLockShared(1, 10))
+        assertTrue(provider.tryLockShared(1, 10))
+        assertFalse(provider.tryLock(1, 10))
+        provider.unlock(1, 10) // not exclusive - nothing
+        provider.unlockShared(1, 10)
+        assertFalse(provider.tryLock(1, 10))
+        provider.unlockShared(1, 10)
+        assertTrue(provider.tryLock(1, 10))
+
+        provider.unlockAll()
+        assertEquals(0, provider.lockCount())
+    }
+
+    @Test
+    internal fun test_mutual_exclusion_between_managers() {
+        val provider = KeyLockConnProviderLocal()
+        val managers = List(4) { KeyLockManager(provider) }
+        val inside = AtomicInteger()
+        val runs = AtomicInteger()
+        val executor = Executors.newFixedThreadPool(4)
+        val futures = (0 until 4).map { t ->
+            executor.submit {
+                repeat(20_000) { i ->
+                    try {
+                        managers[t].runLocked(1, i % 3) {
+                            if (i % 3 == 0) {
+                                assertEquals(1, inside.incrementAndGet())
+                                inside.decrementAndGet()
+                            }
+                            runs.incrementAndGet()
+                        }
+                    } catch (e: LockedResourceException) {
+                        // contended
+                    }
+                }
+            }
+        }
+        futures.forEach { it.get(30, TimeUnit.SECONDS) }
+        executor.shutdown()
+        assertTrue(runs.get() > 0)
+        assertEquals(0, provider.lockCount())
+        assertThrows<LockedResourceException> {
+            managers[0].runLocked(1, 1) { managers[1].runLocked(1, 1) { } }
+        }
+    }
+}
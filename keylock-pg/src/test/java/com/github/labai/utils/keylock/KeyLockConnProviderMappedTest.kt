@@ -0,0 +1,104 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+import java.nio.file.Paths
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockConnProviderMappedTest {
+
+    @TempDir
+    lateinit var tempDir: Path
+
+    // "db" of other process - doesn't know about locks of this one
+    private class CountingProvider(private val delegate: KeyLockConnProvider = KeyLockConnProviderLocal()) : KeyLockConnProvider by delegate {
+        var tryLockCount = 0
+
+        override fun tryLock(sysId: Int, keyId: Int): Boolean {
+            tryLockCount++
+            return delegate.tryLock(sysId, keyId)
+        }
+
+        override fun tryLock(lockId: Long): Boolean {
+            tryLockCount++
+            return delegate.tryLock(lockId)
+        }
+    }
+
+    @Test
+    internal fun test_loser_fails_without_db() {
+        val file = tempDir.resolve("locks.tbl")
+        val db1 = CountingProvider()
+        val db2 = CountingProvider()
+        val manager1 = KeyLockManager(KeyLockConnProviderMapped(file, db1, 1024))
+        val manager2 = KeyLockManager(KeyLockConnProviderMapped(file, db2, 1024))
+
+        manager1.runLocked(1, 10) {
+            manager1.runLocked(1, "order-1") {
+                assertThrows<LockedResourceException> { manager2.runLocked(1, 10) { } }
+                assertThrows<LockedResourceException> { manager2.runLocked(1, "order-1") { } }
+                assertEquals(0, db2.tryLockCount)
+                manager2.runLocked(1, 11) { }
+            }
+        }
+        assertEquals("ok", manager2.runLocked(1, 10) { "ok" })
+        assertEquals(2, db1.tryLockCount)
+        assertEquals(2, db2.tryLockCount)
+    }
+
+    @Test
+    internal fun test_slot_is_released_when_db_lock_fails() {
+        val file = tempDir.resolve("locks.tbl")
+        val db = KeyLockConnProviderLocal()
+        db.tryLock(1, 10) // locked on other host
+        val manager1 = KeyLockManager(KeyLockConnProviderMapped(file, db, 1024))
+        val manager2 = KeyLockManager(KeyLockConnProviderMapped(file, CountingProvider(), 1024))
+
+        assertThrows<LockedResourceException> { manager1.runLocked(1, 10) { } }
+        assertEquals("ok", manager2.runLocked(1, 10) { "ok" })
+    }
+
+    @Test
+    internal fun test_entries_of_dead_process_are_taken_over() {
+        val provider = KeyLockConnProviderMapped(tempDir.resolve("locks.tbl"), CountingProvider(), 1024)
+        val lockId = LockKeyHash.pack(1, 10)
+
+        val process = ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(), "-version").start()
+        process.waitFor()
+        provider.table.put(lockId, process.pid(), 0)
+        assertTrue(provider.tryLock(1, 10))
+        provider.unlock(1, 10)
+
+        // live process
+        val parent = ProcessHandle.current().parent().get()
+        val parentStart = parent.info().startInstant().map { it.toEpochMilli() }.orElse(0L)
+        provider.table.put(lockId, parent.pid(), parentStart)
+        assertFalse(provider.tryLock(1, 10))
+
+        // live process is claiming the slot - start time is of previous owner yet
+        provider.table.put(lockId, parent.pid(), parentStart - 1000, true)
+        assertFalse(provider.tryLock(1, 10))
+
+        // pid reused by other process
+        if (parentStart != 0L) {
+            provider.table.put(lockId, parent.pid(), parentStart - 1000)
+            assertTrue(provider.tryLock(1, 10))
+        }
+    }
+
+    @Test
+    internal fun test_file_size_must_match() {
+        val file = tempDir.resolve("locks.tbl")
+        KeyLockConnProviderMapped(file, CountingProvider(), 1024)
+        assertThrows<IllegalArgumentException> { KeyLockConnProviderMapped(file, CountingProvider(), 2048) }
+        assertThrows<IllegalArgumentException> { KeyLockConnProviderMapped(tempDir.resolve("x"), CountingProvider(), 1000) }
+    }
+}
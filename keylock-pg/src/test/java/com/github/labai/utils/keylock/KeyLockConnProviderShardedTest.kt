@@ -0,0 +1,77 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockConnProviderShardedTest {
+
+    @Test
+    internal fun test_keys_are_spread_evenly() {
+        val provider = KeyLockConnProviderSharded(List(3) { FakeDataSource("db$it") }, FakeLockDao())
+        val counts = IntArray(3)
+        for (keyId in 0 until 30_000) {
+            counts[provider.shardOf(keyId % 7, keyId)]++
+        }
+        for (count in counts) {
+            assertTrue(count in 7_000..13_000, "uneven shards ${counts.toList()}")
+        }
+    }
+
+    @Test
+    internal fun test_new_shard_moves_few_keys() {
+        val dataSources = List(4) { FakeDataSource("db$it") }
+        val provider3 = KeyLockConnProviderSharded(dataSources.subList(0, 3), FakeLockDao())
+        val provider4 = KeyLockConnProviderSharded(dataSources, FakeLockDao())
+        var moved = 0
+        for (keyId in 0 until 10_000) {
+            val before = provider3.shardOf(1, keyId)
+            val after = provider4.shardOf(1, keyId)
+            if (before != after) {
+                assertEquals(3, after, "key may move only to the new shard")
+                moved++
+            }
+        }
+        assertTrue(moved in 1_500..3_500, "moved $moved of 10000")
+    }
+
+    @Test
+    internal fun test_connection_per_shard() {
+        val dataSources = List(3) { FakeDataSource("db$it") }
+        val dao = FakeLockDao()
+        val provider = KeyLockConnProviderSharded(dataSources, dao)
+        val lockMgr = KeyLockManager(provider)
+        val keyA = (0 until 1000).first { provider.shardOf(1, it) == 0 }
+        val keyB = (0 until 1000).first { provider.shardOf(1, it) == 0 && it != keyA }
+
+        lockMgr.runLocked(1, keyA) {
+            assertEquals("db0", dao.holder(1, keyA))
+            lockMgr.runLocked(1, keyB) {
+                assertEquals(1, dataSources[0].opened.get()) // one connection for both keys of shard
+            }
+            assertEquals(1, dataSources[0].openCount)
+        }
+        assertEquals(0, dataSources[0].openCount)
+        assertEquals(0, dataSources[1].opened.get() + dataSources[2].opened.get()) // not used shards
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_locked_in_other_instance() {
+        val dataSources = List(2) { FakeDataSource("db$it") }
+        val dao = FakeLockDao()
+        val lockMgr1 = KeyLockManager(KeyLockConnProviderSharded(dataSources, dao))
+        val lockMgr2 = KeyLockManager(KeyLockConnProviderSharded(dataSources, dao))
+
+        lockMgr1.runLocked(1, 100) {
+            assertThrows<LockedResourceException> { lockMgr2.runLocked(1, 100) { } }
+        }
+        assertEquals(0, dataSources.sumOf { it.openCount })
+        lockMgr2.runLocked(1, 100) { }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockHistogramListenerTest {
+
+    @Test
+    internal fun test_histogram_percentiles() {
+        val histogram = LatencyHistogram()
+        for (v in 1L..1000L) {
+            histogram.record(v * 1000)
+        }
+        assertEquals(1_000_000, histogram.max())
+        assertTrue(histogram.percentile(0.5) in 500_000L..563_000L, "p50 ${histogram.percentile(0.5)}")
+        assertTrue(histogram.percentile(0.99) in 990_000L..1_000_000L, "p99 ${histogram.percentile(0.99)}")
+        for (v in 0L..100_000L) {
+            val idx = LatencyHistogram.index(v)
+            assertTrue(v <= LatencyHistogram.upperBound(idx) && (idx == 0 || v > LatencyHistogram.upperBound(idx - 1)))
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.index(Long.MAX_VALUE)))
+    }
+
+    @Test
+    internal fun test_listener_events() {
+        val listener = KeyLockHistogramListener()
+        val dao = FakeLockDao()
+        val manager = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db"), dao, listener), listener)
+        val other = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db2"), dao))
+
+        manager.runLocked(1, 10) {
+            Thread.sleep(5)
+            assertThrows<LockedResourceException> { manager.runLocked(1, 10) { } } // local
+            manager.runLocked(2, 10) { }
+        }
+        other.runLocked(1, 11) {
+            assertThrows<LockedResourceException> { manager.runLocked(1, 11) { } } // db
+        }
+
+        val stats = listener.snapshot()
+        assertEquals(listOf(1, 2), stats.map { it.sysId })
+        assertEquals(1, stats[0].acquired)
+        assertEquals(2, stats[0].contended)
+        assertTrue(stats[0].holdMaxNanos >= 5_000_000, "hold ${stats[0].holdMaxNanos}")
+        assertEquals(1, stats[1].acquired)
+        assertEquals(2, listener.connectionsOpened())
+        assertEquals(7, listener.dbCalls()) // 3 tryLock, 2 unlock, 2 unlockAll on close
+        assertEquals(2, listener.firstLocks())
+    }
+}
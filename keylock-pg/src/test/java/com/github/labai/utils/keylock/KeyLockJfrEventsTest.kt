@@ -0,0 +1,41 @@
+package com.github.labai.utils.keylock
+
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordingFile
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+import java.nio.file.Path
+import kotlin.test.assertEquals
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockJfrEventsTest {
+
+    @TempDir
+    lateinit var tempDir: Path
+
+    @Test
+    internal fun test_events_are_recorded() {
+        val manager = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db"), FakeLockDao()))
+        val file = tempDir.resolve("keylock.jfr")
+        Recording().use { recording ->
+            for (name in listOf("Acquire", "Hold", "Unlock", "Connection"))
+                recording.enable("com.github.labai.keylock.$name")
+            recording.start()
+            manager.runLocked(1, 10) {
+                assertThrows<LockedResourceException> { manager.runLocked(1, 10) { } }
+            }
+            recording.stop()
+            recording.dump(file)
+        }
+
+        val events = RecordingFile.readAllEvents(file).groupBy { it.eventType.name.substringAfterLast('.') }
+        assertEquals(listOf("acquired", "locked-local"), events["Acquire"]!!.map { it.getString("outcome") }.sorted())
+        assertEquals(10, events["Hold"]!!.single().getInt("keyId"))
+        assertEquals(true, events["Unlock"]!!.single().getBoolean("success"))
+        assertEquals(listOf(false, true), events["Connection"]!!.map { it.getBoolean("open") }.sorted())
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.sql.Connection
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockNamespaceTest {
+    private val dao = FakeLockDao()
+    private val manager1 = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db1"), dao), namespaceLocks = true)
+    private val manager2 = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db2"), dao), namespaceLocks = true)
+
+    @Test
+    internal fun test_namespace_conflicts_with_keys_of_other_instance() {
+        manager1.runLocked(1, 10) {
+            assertThrows<LockedResourceException> { manager2.runLockedNamespace(1) { } }
+            manager2.runLockedNamespace(2) { }
+            manager2.runLocked(1, 11) { }
+        }
+        manager2.runLockedNamespace(1) {
+            assertThrows<LockedResourceException> { manager1.runLocked(1, 12) { } }
+            assertThrows<LockedResourceException> { manager1.runLockedNamespace(1) { } }
+            manager1.runLocked(2, 12) { }
+        }
+        assertEquals("ok", manager1.runLocked(1, 12) { "ok" })
+    }
+
+    @Test
+    internal fun test_namespace_conflicts_with_own_keys() {
+        manager1.runLocked(1, 10) {
+            assertThrows<LockedResourceException> { manager1.runLockedNamespace(1) { } }
+        }
+        manager1.runLockedNamespace(1) {
+            assertThrows<LockedResourceException> { manager1.runLocked(1, 10) { } }
+        }
+    }
+
+    @Test
+    internal fun test_intention_lock_is_taken_once_per_namespace() {
+        manager1.runLocked(1, 10) {
+            manager1.runLocked(1, 11) {
+                manager1.runLocked(1, "order-1") { }
+            }
+        }
+        assertEquals(2, dao.namespaceCalls) // lock and unlock
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_intention_lock_is_taken_outside_of_manager_lock() {
+        val entered = CountDownLatch(1)
+        val proceed = CountDownLatch(1)
+        val slowDao = object : IKeyLockDaoProvider by dao {
+            override fun tryLockNamespace(conn: Connection, sysId: Int, shared: Boolean): Boolean {
+                entered.countDown()
+                proceed.await()
+                return dao.tryLockNamespace(conn, sysId, shared)
+            }
+        }
+        val manager = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db"), slowDao), namespaceLocks = true)
+        val secondDone = CountDownLatch(1)
+        val first = thread { manager.runLocked(1, 10) { secondDone.await() } }
+        entered.await()
+        assertTrue(manager.isHeld(1, 10)) // is not blocked by db call
+        var result: String? = null
+        val second = thread { result = manager.runLocked(1, 11) { "ok" } } // waits for the first, then shares its lock
+        proceed.countDown()
+        second.join()
+        assertEquals("ok", result)
+        secondDone.countDown()
+        first.join()
+        assertEquals(2, dao.namespaceCalls) // lock and unlock
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_local_provider() {
+        val provider = KeyLockConnProviderLocal()
+        val local1 = KeyLockManager(provider, namespaceLocks = true)
+        val local2 = KeyLockManager(provider, namespaceLocks = true)
+        local1.runLockedNamespace(5) {
+            assertThrows<LockedResourceException> { local2.runLocked(5, 1) { } }
+        }
+        local2.runLocked(5, 1) { }
+        assertEquals(0, provider.lockCount())
+
+        assertThrows<IllegalStateException> { KeyLockManager(provider).runLockedNamespace(5) { } }
+    }
+
+    @Test
+    internal fun test_hub_members_exclude_each_other() {
+        val hub = KeyLockSessionHub(FakeDataSource("db"), dao)
+        val hub1 = KeyLockManager(hub.register(), namespaceLocks = true)
+        val hub2 = KeyLockManager(hub.register(), namespaceLocks = true)
+        hub1.runLocked(5, 1) {
+            hub2.runLocked(5, 2) { } // shared
+            assertThrows<LockedResourceException> { hub2.runLockedNamespace(5) { } } // the same session - checked by hub
+            assertThrows<LockedResourceException> { manager1.runLockedNamespace(5) { } }
+        }
+        hub2.runLockedNamespace(5) {
+            assertThrows<LockedResourceException> { hub1.runLocked(5, 1) { } }
+            assertThrows<LockedResourceException> { hub1.runLockedNamespace(5) { } }
+            assertThrows<LockedResourceException> { manager1.runLocked(5, 1) { } }
+        }
+        hub1.runLockedNamespace(5) { }
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_unsupported_provider_is_rejected() {
+        val noNamespaces = object : IKeyLockDaoProvider by dao {
+            override fun supportsNamespaceLocks(): Boolean = false
+        }
+        assertThrows<IllegalArgumentException> { KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db"), noNamespaces), namespaceLocks = true) }
+        KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db"), noNamespaces)).runLocked(5, 1) { }
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.sql.Connection
+import java.time.Duration
+import java.util.Collections
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockPriorityTest {
+    private val dao = FakeLockDao()
+    private val dbLocks = AtomicInteger()
+    private val countingDao = object : IKeyLockDaoProvider by dao {
+        override fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean {
+            dbLocks.incrementAndGet()
+            return dao.tryLock(conn, sysId, keyId)
+        }
+    }
+    private val manager = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db1"), countingDao))
+    private val timeout = Duration.ofSeconds(5)
+
+    // holds key until waiters are queued, returns order of served waiters
+    private fun serve(manager: KeyLockManager, queue: List<Pair<Int, Long>>): List<Int> {
+        val order = Collections.synchronizedList(ArrayList<Int>())
+        val locked = CountDownLatch(1)
+        val holder = thread {
+            manager.runLocked(1, 10) {
+                locked.countDown()
+                val deadline = System.nanoTime() + timeout.toNanos()
+                while (manager.waiterCount() < queue.size && System.nanoTime() < deadline)
+                    Thread.sleep(5)
+            }
+        }
+        locked.await()
+        val waiters = queue.map { (priority, delayMillis) ->
+            Thread.sleep(delayMillis)
+            thread { manager.runLocked(1, 10, priority, timeout) { order.add(priority) } }
+        }
+        holder.join()
+        waiters.forEach { it.join() }
+        return order
+    }
+
+    @Test
+    internal fun test_key_is_handed_over_by_priority() {
+        val order = serve(manager, listOf(0 to 0L, 1 to 20L, 10 to 20L))
+        assertEquals(listOf(10, 1, 0), order)
+        assertEquals(1, dbLocks.get()) // handed over without unlock/lock
+        assertEquals(0, dao.lockCount())
+        assertEquals(0, manager.waiterCount())
+    }
+
+    @Test
+    internal fun test_aging_of_waiter() {
+        val aging = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db1"), dao), priorityAging = Duration.ofMillis(1))
+        val order = serve(aging, listOf(0 to 0L, 10 to 100L))
+        assertEquals(listOf(0, 10), order) // waited longer than 10 agings
+    }
+
+    @Test
+    internal fun test_wait_timeout() {
+        manager.runLocked(1, 10) {
+            val start = System.nanoTime()
+            assertThrows<LockedResourceException> { manager.runLocked(1, 10, 5, Duration.ofMillis(50)) { } }
+            assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos())
+            assertEquals(0, manager.waiterCount())
+        }
+        assertEquals("ok", manager.runLocked(1, 10, 5, Duration.ofMillis(50)) { "ok" })
+
+        val other = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db2"), dao))
+        other.runLocked(1, 10) {
+            val start = System.nanoTime()
+            assertThrows<LockedResourceException> { manager.runLocked(1, 10, 5, timeout) { } } // other instance - no wait
+            assertTrue(System.nanoTime() - start < timeout.toNanos() / 2)
+        }
+    }
+
+    @Test
+    internal fun test_waiter_retries_when_holder_fails() {
+        val other = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db2"), dao))
+        val entered = CountDownLatch(1)
+        val proceed = CountDownLatch(1)
+        val slowDao = object : IKeyLockDaoProvider by dao {
+            override fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean {
+                entered.countDown()
+                proceed.await()
+                return dao.tryLock(conn, sysId, keyId)
+            }
+        }
+        val slow = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db1"), slowDao))
+        other.runLocked(1, 10) {
+            val first = CompletableFuture.runAsync { assertThrows<LockedResourceException> { slow.runLocked(1, 10) { } } }
+            entered.await()
+            val waiter = CompletableFuture.runAsync {
+                val start = System.nanoTime()
+                val e = assertThrows<LockedResourceException> { slow.runLocked(1, 10, 0, timeout) { } }
+                assertTrue(e.message!!.endsWith("(pg)")) // tried db after first failed, not timeout
+                assertTrue(System.nanoTime() - start < timeout.toNanos())
+            }
+            while (slow.waiterCount() == 0)
+                Thread.sleep(5)
+            proceed.countDown()
+            first.get()
+            waiter.get()
+        }
+        assertEquals(0, dao.lockCount())
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockReleaseWaiterTest {
+
+    // stand-in of LISTEN connection
+    private class FakeNotificationSource : KeyLockNotificationSource {
+        val queue = LinkedBlockingQueue<String>()
+        @Volatile var fail = false
+
+        override fun await(timeoutMillis: Int): List<String> {
+            if (fail)
+                throw IllegalStateException("connection lost")
+            val first = queue.poll(timeoutMillis.toLong(), TimeUnit.MILLISECONDS) ?: return emptyList()
+            return listOf(first) + generateSequence { queue.poll() }.toList()
+        }
+
+        override fun publish(payload: String) {
+            queue.add(payload)
+        }
+    }
+
+    // publishes release as KeyLockManagerPgDao(notifyChannel) does
+    private class NotifyingProvider(private val delegate: KeyLockConnProvider, private val source: FakeNotificationSource) : KeyLockConnProvider by delegate {
+        override fun unlock(sysId: Int, keyId: Int) {
+            delegate.unlock(sysId, keyId)
+            source.queue.add(KeyLockReleaseWaiter.payload(sysId, keyId))
+        }
+
+        override fun unlock(lockId: Long) {
+            delegate.unlock(lockId)
+            source.queue.add(KeyLockReleaseWaiter.payload(lockId))
+        }
+    }
+
+    private val source = FakeNotificationSource()
+    private val db = KeyLockConnProviderLocal()
+    private val other = KeyLockManager(NotifyingProvider(db, source)) // other instance
+    private val manager = KeyLockManager(NotifyingProvider(db, source))
+    private val waiter = KeyLockReleaseWaiter(source, recheckInterval = Duration.ofSeconds(30))
+
+    @AfterEach
+    fun close() {
+        waiter.close()
+    }
+
+    @Test
+    internal fun test_waiter_wakes_on_release() {
+        for (key in listOf<Any>(10, "order-10")) {
+            val locked = CountDownLatch(1)
+            val holder = thread {
+                val task = { locked.countDown(); Thread.sleep(300) }
+                if (key is Int) other.runLocked(1, key) { task() } else other.runLocked(1, key as String) { task() }
+            }
+            locked.await()
+            val start = System.nanoTime()
+            val result = if (key is Int)
+                waiter.runLocked(manager, 1, key, Duration.ofSeconds(10)) { "done" }
+            else
+                waiter.runLocked(manager, 1, key as String, Duration.ofSeconds(10)) { "done" }
+            val waitedMillis = (System.nanoTime() - start) / 1_000_000
+            assertEquals("done", result)
+            assertTrue(waitedMillis in 200..5000, "waited $waitedMillis ms")
+            holder.join()
+        }
+        assertEquals(0, waiter.waiterCount())
+    }
+
+    @Test
+    internal fun test_timeout_and_task_exception() {
+        other.runLocked(1, 10) {
+            assertThrows<LockedResourceException> { waiter.runLocked(manager, 1, 10, Duration.ofMillis(100)) { } }
+        }
+        val runs = AtomicInteger()
+        assertThrows<LockedResourceException> {
+            waiter.runLocked(manager, 1, 11, Duration.ofSeconds(10)) {
+                runs.incrementAndGet()
+                throw LockedResourceException("from task")
+            }
+        }
+        assertEquals(1, runs.get()) // task is not repeated
+        assertEquals(0, waiter.waiterCount())
+    }
+
+    @Test
+    internal fun test_source_failure_wakes_waiters() {
+        val locked = CountDownLatch(1)
+        val holder = thread {
+            other.runLocked(1, 10) {
+                locked.countDown()
+                Thread.sleep(200)
+                source.fail = true // notification is lost
+            }
+        }
+        locked.await()
+        source.queue.clear()
+        val start = System.nanoTime()
+        thread { Thread.sleep(400); source.queue.clear(); source.fail = false }
+        assertEquals("done", waiter.runLocked(manager, 1, 10, Duration.ofSeconds(10)) { "done" })
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 5000)
+        holder.join()
+    }
+}
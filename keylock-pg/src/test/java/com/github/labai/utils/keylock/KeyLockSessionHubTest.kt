@@ -0,0 +1,67 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import kotlin.test.assertEquals
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockSessionHubTest {
+
+    @Test
+    internal fun test_managers_share_one_connection() {
+        val dataSource = FakeDataSource("db")
+        val dao = FakeLockDao()
+        val hub = KeyLockSessionHub(dataSource, dao)
+        val managers = List(5) { KeyLockManager(hub.register()) }
+
+        managers[0].runLocked(1, 10) {
+            managers[1].runLocked(1, 11) {
+                managers[2].runLocked(2, 10) {
+                    assertEquals(1, dataSource.openCount)
+                    assertEquals(3, dao.lockCount())
+                }
+            }
+        }
+        assertEquals(0, dataSource.openCount)
+        assertEquals(0, hub.lockCount())
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_managers_exclude_each_other() {
+        val dataSource = FakeDataSource("db")
+        val dao = FakeLockDao()
+        val hub = KeyLockSessionHub(dataSource, dao)
+        val manager1 = KeyLockManager(hub.register())
+        val manager2 = KeyLockManager(hub.register())
+
+        manager1.runLocked(1, 10) {
+            // the same session would get reentrant advisory lock - hub must refuse
+            assertThrows<LockedResourceException> { manager2.runLocked(1, 10) { } }
+            assertEquals(1, dao.lockCount())
+        }
+        assertEquals("ok", manager2.runLocked(1, 10) { "ok" })
+        assertEquals(0, dataSource.openCount)
+    }
+
+    @Test
+    internal fun test_few_sessions() {
+        val dataSource = FakeDataSource("db")
+        val hub = KeyLockSessionHub(dataSource, FakeLockDao(), sessions = 2)
+        val manager = KeyLockManager(hub.register())
+
+        fun lockAll(keyId: Int) {
+            if (keyId == 20) {
+                assertEquals(2, dataSource.openCount)
+                return
+            }
+            manager.runLocked(1, keyId) { lockAll(keyId + 1) }
+        }
+        lockAll(0)
+        assertEquals(0, dataSource.openCount)
+        assertEquals(2, dataSource.opened.get())
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.sql.Connection
+import java.sql.SQLException
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockSessionLostTest {
+    private val dao = FakeLockDao()
+    private val dataSource1 = FakeDataSource("db1")
+    private val metrics = KeyLockHistogramListener()
+    private val lost = AtomicInteger()
+    private val listener = object : KeyLockListener by metrics {
+        override fun onLockLost(sysId: Int, keyId: Int) {
+            lost.incrementAndGet()
+        }
+    }
+    private val manager1 = KeyLockManager(KeyLockConnProviderDb(dataSource1, dao, listener), listener)
+    private val manager2 = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db2"), dao))
+
+    @Test
+    internal fun test_lost_session_is_replaced() {
+        manager1.runLocked(1, 10) {
+            assertTrue(manager1.isHeld(1, 10))
+            dataSource1.kill()
+            assertThrows<SQLException> { manager1.runLocked(1, 11) { } }
+            assertFalse(manager1.isHeld(1, 10))
+            manager1.runLocked(1, 12) { // new session
+                assertTrue(manager1.isHeld(1, 12))
+            }
+            manager2.runLocked(1, 10) { } // is released by db
+        }
+        assertEquals(1, metrics.sessionsLost())
+        assertEquals(1, lost.get())
+        assertEquals(2, metrics.connectionsOpened())
+        assertEquals(0, dataSource1.openCount)
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_lost_lock_is_not_kept_sticky() {
+        val dbLocks = AtomicInteger()
+        val countingDao = object : IKeyLockDaoProvider by dao {
+            override fun tryLock(conn: Connection, sysId: Int, keyId: Int): Boolean {
+                dbLocks.incrementAndGet()
+                return dao.tryLock(conn, sysId, keyId)
+            }
+        }
+        val sticky = KeyLockManager(KeyLockConnProviderDb(dataSource1, countingDao), stickyIdle = Duration.ofHours(1))
+        sticky.runLocked(1, 10) {
+            dataSource1.kill()
+            assertThrows<SQLException> { sticky.runLocked(1, 11) { } } // loss is detected
+        }
+        assertEquals(0, sticky.stickyCount())
+        manager2.runLocked(1, 10) {
+            assertThrows<LockedResourceException> { sticky.runLocked(1, 10) { } } // goes to db
+        }
+        assertEquals(3, dbLocks.get())
+        sticky.close()
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_validator_detects_dead_idle_session() {
+        val sticky = KeyLockManager(KeyLockConnProviderDb(dataSource1, dao, metrics, Duration.ofMillis(20)), metrics, stickyIdle = Duration.ofHours(1))
+        sticky.runLocked(1, 20) { }
+        sticky.runLocked(1, 10) {
+            dataSource1.kill()
+            val deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos()
+            while ((sticky.isHeld(1, 10) || sticky.stickyCount() > 0 || dataSource1.opened.get() < 2) && System.nanoTime() < deadline)
+                Thread.sleep(10)
+            assertFalse(sticky.isHeld(1, 10))
+            assertEquals(0, sticky.stickyCount()) // idle lock is dropped
+            assertEquals(2, dataSource1.opened.get()) // reopened for next locks
+            manager2.runLocked(1, 10) { }
+            sticky.runLocked(1, 11) { }
+        }
+        sticky.close()
+        assertEquals(0, dataSource1.openCount)
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_lost_shard_session() {
+        val dataSources = listOf(FakeDataSource("s0"), FakeDataSource("s1"))
+        val sharded = KeyLockConnProviderSharded(dataSources, dao)
+        val manager = KeyLockManager(sharded)
+        val keys0 = (1..100).filter { sharded.shardOf(1, it) == 0 }
+        val key1 = (1..100).first { sharded.shardOf(1, it) == 1 }
+        manager.runLocked(1, keys0[0]) {
+            manager.runLocked(1, key1) {
+                dataSources[0].kill()
+                assertThrows<SQLException> { manager.runLocked(1, keys0[1]) { } }
+                assertFalse(manager.isHeld(1, keys0[0]))
+                assertTrue(manager.isHeld(1, key1))
+                manager.runLocked(1, keys0[1]) { }
+            }
+        }
+        assertEquals(0, dataSources.sumOf { it.openCount })
+        assertEquals(0, dao.lockCount())
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.time.Duration
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class KeyLockStickyTest {
+
+    private class CountingProvider(private val delegate: KeyLockConnProvider) : KeyLockConnProvider by delegate {
+        val locks = AtomicInteger()
+        val unlocks = AtomicInteger()
+
+        override fun tryLock(sysId: Int, keyId: Int): Boolean = delegate.tryLock(sysId, keyId).also { locks.incrementAndGet() }
+        override fun unlock(sysId: Int, keyId: Int) = delegate.unlock(sysId, keyId).also { unlocks.incrementAndGet() }
+        override fun tryLock(lockId: Long): Boolean = delegate.tryLock(lockId).also { locks.incrementAndGet() }
+        override fun unlock(lockId: Long) = delegate.unlock(lockId).also { unlocks.incrementAndGet() }
+    }
+
+    private class QueueSource : KeyLockNotificationSource {
+        val queue = LinkedBlockingQueue<String>()
+
+        override fun await(timeoutMillis: Int): List<String> =
+            listOfNotNull(queue.poll(timeoutMillis.toLong(), TimeUnit.MILLISECONDS))
+
+        override fun publish(payload: String) {
+            queue.add(payload)
+        }
+    }
+
+    private val db = KeyLockConnProviderLocal()
+    private val provider = CountingProvider(db)
+    private val manager = KeyLockManager(provider, stickyIdle = Duration.ofHours(1))
+    private val other = KeyLockManager(db)
+
+    @Test
+    internal fun test_hot_key_is_locked_once() {
+        repeat(3) { manager.runLocked(1, 10) { } }
+        repeat(3) { manager.runLocked(1, "order-10") { } }
+        assertEquals(2, provider.locks.get())
+        assertEquals(0, provider.unlocks.get())
+        assertEquals(2, manager.stickyCount())
+        assertThrows<LockedResourceException> { other.runLocked(1, 10) { } }
+
+        manager.runLocked(1, 10) {
+            assertThrows<LockedResourceException> { manager.runLocked(1, 10) { } }
+            assertFalse(manager.releaseSticky(1, 10)) // in use
+        }
+        assertTrue(manager.releaseSticky(1, 10))
+        assertTrue(manager.releaseSticky(1, "order-10"))
+        assertFalse(manager.releaseSticky(1, 10))
+        assertEquals(2, provider.unlocks.get())
+        assertEquals(0, db.lockCount())
+        other.runLocked(1, 10) { }
+    }
+
+    @Test
+    internal fun test_idle_locks_are_released() {
+        manager.runLocked(1, 10) { }
+        manager.runLocked(1, 11) { }
+        assertEquals(0, manager.releaseIdle())
+        assertEquals(2, manager.releaseIdle(System.nanoTime() + Duration.ofHours(2).toNanos()))
+        assertEquals(0, db.lockCount())
+
+        val fast = KeyLockManager(db, stickyIdle = Duration.ofMillis(20))
+        fast.runLocked(1, 12) { }
+        assertEquals(1, db.lockCount())
+        val deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos()
+        while (db.lockCount() > 0 && System.nanoTime() < deadline)
+            Thread.sleep(10)
+        assertEquals(0, fast.stickyCount())
+        assertEquals(0, db.lockCount())
+    }
+
+    @Test
+    internal fun test_close_releases_locks_and_connection() {
+        val dataSource = FakeDataSource("db")
+        val dao = FakeLockDao()
+        val sticky = KeyLockManager(KeyLockConnProviderDb(dataSource, dao), stickyIdle = Duration.ofHours(1))
+        sticky.runLocked(1, 10) { }
+        sticky.runLocked(1, 11) { }
+        assertEquals(1, dataSource.openCount)
+        assertEquals(2, dao.lockCount())
+
+        sticky.close()
+        assertEquals(0, dataSource.openCount)
+        assertEquals(0, dao.lockCount())
+        sticky.runLocked(1, 10) { } // not kept after close
+        assertEquals(0, dao.lockCount())
+        assertEquals(0, sticky.stickyCount())
+    }
+
+    @Test
+    internal fun test_release_request_of_other_instance() {
+        val requests = QueueSource()
+        KeyLockReleaseRequestListener(requests, manager).use {
+            KeyLockReleaseWaiter(QueueSource(), Duration.ofMillis(50), releaseRequests = requests).use { waiter ->
+                manager.runLocked(1, 10) { }
+                manager.runLocked(1, "order-10") { }
+                assertEquals("ok", waiter.runLocked(other, 1, 10, Duration.ofSeconds(5)) { "ok" })
+                assertEquals("ok", waiter.runLocked(other, 1, "order-10", Duration.ofSeconds(5)) { "ok" })
+            }
+        }
+        assertEquals(0, manager.stickyCount())
+        assertEquals(0, db.lockCount())
+    }
+
+    @Test
+    internal fun test_namespace_lock_releases_idle_keys() {
+        val sticky = KeyLockManager(db, namespaceLocks = true, stickyIdle = Duration.ofHours(1))
+        sticky.runLocked(1, 10) { }
+        sticky.runLocked(2, 10) { }
+        sticky.runLockedNamespace(1) {
+            assertEquals(1, sticky.stickyCount())
+        }
+        sticky.runLocked(2, 10) { }
+        sticky.close()
+        assertEquals(0, db.lockCount())
+    }
+
+    @Test
+    internal fun test_invalid_idle() {
+        assertThrows<IllegalArgumentException> { KeyLockManager(db, stickyIdle = Duration.ZERO) }
+    }
+}
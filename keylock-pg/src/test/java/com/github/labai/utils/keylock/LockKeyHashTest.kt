@@ -0,0 +1,71 @@
+package com.github.labai.utils.keylock
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.util.UUID
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ */
+class LockKeyHashTest {
+
+    @Test
+    internal fun test_hash_is_stable() {
+        // ids must not change between versions - other instances may run other version
+        assertEquals(PINNED_ORDER, LockKeyHash.hash64(1, "order-12345"))
+        assertEquals(PINNED_UUID, LockKeyHash.hash64(1, UUID(0x0123456789abcdefL, -0x123456789abcdf0L)))
+        assertEquals(LockKeyHash.hash64(1, "order-12345"), LockKeyHash.hash64(1, StringBuilder("order-12345")))
+        assertNotEquals(LockKeyHash.hash64(1, "order-12345"), LockKeyHash.hash64(2, "order-12345"))
+        assertNotEquals(LockKeyHash.hash64(1, ""), LockKeyHash.hash64(1, "\u0000"))
+    }
+
+    @Test
+    internal fun test_no_collisions() {
+        val ids = HashSet<Long>()
+        for (i in 0 until 200_000) {
+            ids.add(LockKeyHash.hash64(7, "ORD-$i"))
+            ids.add(LockKeyHash.hash64(7, UUID(i.toLong(), 42)))
+        }
+        assertEquals(400_000, ids.size)
+    }
+
+    @Test
+    internal fun test_string_and_uuid_keys() {
+        val dao = FakeLockDao()
+        val manager1 = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db1"), dao))
+        val manager2 = KeyLockManager(KeyLockConnProviderDb(FakeDataSource("db2"), dao))
+        val uuid = UUID.randomUUID()
+
+        manager1.runLocked(1, "order-1") {
+            manager1.runLocked(1, uuid) {
+                assertThrows<LockedResourceException> { manager2.runLocked(1, "order-1") { } }
+                assertThrows<LockedResourceException> { manager2.runLocked(1, uuid) { } }
+                assertThrows<LockedResourceException> { manager1.runLocked(1, StringBuilder("order-1")) { } }
+                assertEquals("ok", manager2.runLocked(1, "order-2") { "ok" })
+                assertEquals(2, dao.lockCount())
+            }
+        }
+        assertEquals(0, dao.lockCount())
+    }
+
+    @Test
+    internal fun test_collision_check() {
+        val manager = KeyLockManager(KeyLockConnProviderLocal(), collisionCheck = true)
+        val lockId = LockKeyHash.hash64(1, "order-1")
+        // int key with the same lock id as string key
+        manager.runLocked((lockId ushr 32).toInt(), lockId.toInt()) {
+            assertThrows<IllegalStateException> { manager.runLocked(1, "order-1") { } }
+        }
+        manager.runLocked(1, "order-1") {
+            assertThrows<LockedResourceException> { manager.runLocked(1, "order-1") { } }
+        }
+    }
+
+    companion object {
+        private const val PINNED_ORDER = -8455428422449481208L
+        private const val PINNED_UUID = 1505169658546448543L
+    }
+}
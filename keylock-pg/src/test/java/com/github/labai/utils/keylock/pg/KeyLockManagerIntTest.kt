@@ -2,13 +2,16 @@ package com.github.labai.utils.keylock.pg
 
 import com.github.labai.utils.keylock.KeyLockConnProvider
 import com.github.labai.utils.keylock.KeyLockConnProviderDb
+import com.github.labai.utils.keylock.KeyLockConnProviderPooled
 import com.github.labai.utils.keylock.KeyLockManager
+import com.github.labai.utils.keylock.KeyLockReleaseWaiter
 import com.github.labai.utils.keylock.LockedResourceException
 import com.github.labai.utils.keylock.TestDbConfig
 import kotlinx.coroutines.GlobalScope
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.runBlocking
 import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.BeforeAll
 import org.junit.jupiter.api.Disabled
 import org.junit.jupiter.api.Test
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.fail
 import org.slf4j.LoggerFactory
 import org.testcontainers.containers.PostgreSQLContainer
 import java.lang.Thread.sleep
+import java.time.Duration
 import javax.sql.DataSource
 
 /**
@@ -144,6 +148,56 @@ class KeyLockManagerIntTest {
 
     }
 
+    @Test
+    internal fun test_string_keys() {
+        val lockMgr2 = KeyLockManager(KeyLockConnProviderDb(dataSource, KeyLockManagerPgDao()))
+        lockMgr.runLocked(-999, "order-101") {
+            try {
+                lockMgr2.runLocked(-999, "order-101") { }
+                fail("expected LockedResourceException")
+            } catch (e: LockedResourceException) {
+                // ok
+            }
+            assertEquals("other key", lockMgr2.runLocked(-999, "order-102") { "other key" })
+        }
+    }
+
+    @Test
+    internal fun test_release_notification() {
+        val lockMgr1 = KeyLockManager(KeyLockConnProviderDb(dataSource, KeyLockManagerPgDao("keylock_release")))
+        val lockMgr2 = KeyLockManager(KeyLockConnProviderDb(dataSource, KeyLockManagerPgDao("keylock_release")))
+        KeyLockReleaseWaiter(KeyLockPgNotificationSource(dataSource, "keylock_release"), Duration.ofSeconds(30)).use { waiter ->
+            val job = Thread { lockMgr1.runLocked(-999, 301) { sleep(300) } }
+            job.start()
+            sleep(50)
+            val start = System.currentTimeMillis()
+            waiter.runLocked(lockMgr2, -999, 301, Duration.ofSeconds(10)) { }
+            assertTrue(System.currentTimeMillis() - start < 5000)
+            job.join()
+        }
+    }
+
+    @Test
+    internal fun test_lease_lock() {
+        val dao1 = KeyLockManagerLeaseDao(dataSource)
+        val dao2 = KeyLockManagerLeaseDao(dataSource)
+        dataSource.connection.use { dao1.createTable(it) }
+        val lockMgr1 = KeyLockManager(KeyLockConnProviderPooled(dataSource, dao1))
+        val lockMgr2 = KeyLockManager(KeyLockConnProviderPooled(dataSource, dao2))
+
+        lockMgr1.runLocked(-999, 201) {
+            assertEquals(1, dao1.renew())
+            try {
+                lockMgr2.runLocked(-999, 201) { }
+                fail("expected LockedResourceException")
+            } catch (e: LockedResourceException) {
+                // ok
+            }
+        }
+        assertEquals("done", lockMgr2.runLocked(-999, 201) { "done" })
+        dao1.close()
+        dao2.close()
+    }
 
     private class KeyLockConnProviderWrap(private val delegate: KeyLockConnProvider) : KeyLockConnProvider {
         val verbose: Boolean = true
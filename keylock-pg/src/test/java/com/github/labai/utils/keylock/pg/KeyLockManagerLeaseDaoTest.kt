@@ -0,0 +1,112 @@
+package com.github.labai.utils.keylock.pg
+
+import com.github.labai.utils.keylock.FakeDataSource
+import com.github.labai.utils.keylock.FakeLeaseTable
+import com.github.labai.utils.keylock.KeyLockConnProviderPooled
+import com.github.labai.utils.keylock.KeyLockManager
+import com.github.labai.utils.keylock.LockedResourceException
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.SQLException
+import java.time.Duration
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * lease dao against in-memory table (statements are interpreted by FakeLeaseTable)
+ */
+class KeyLockManagerLeaseDaoTest {
+    private val table = FakeLeaseTable()
+    private val dataSource = FakeDataSource("db", table)
+
+    @Test
+    internal fun test_lock_is_exclusive_between_owners() {
+        val dao1 = KeyLockManagerLeaseDao(dataSource, ownerId = "a")
+        val dao2 = KeyLockManagerLeaseDao(dataSource, ownerId = "b")
+        dataSource.connection.use { conn ->
+            assertTrue(dao1.tryLock(conn, 1, 10))
+            assertFalse(dao2.tryLock(conn, 1, 10))
+            assertTrue(dao2.tryLock(conn, 1, 11))
+            dao2.unlock(conn, 1, 10) // not owner - nothing
+            assertEquals("a", table.owner(1, 10))
+            dao1.unlock(conn, 1, 10)
+            assertTrue(dao2.tryLock(conn, 1, 10))
+            dao2.unlockAll(conn)
+            assertNull(table.owner(1, 10))
+            assertNull(table.owner(1, 11))
+        }
+        dao1.close()
+        dao2.close()
+    }
+
+    @Test
+    internal fun test_expired_lease_is_taken_over_and_renewal_keeps_it() {
+        val dao1 = KeyLockManagerLeaseDao(dataSource, Duration.ofSeconds(30), ownerId = "a")
+        val dao2 = KeyLockManagerLeaseDao(dataSource, Duration.ofSeconds(30), ownerId = "b")
+        dataSource.connection.use { conn ->
+            assertTrue(dao1.tryLock(conn, 1, 10))
+            assertTrue(dao1.tryLock(conn, 1, 11))
+            table.now += 20_000
+            assertEquals(2, dao1.renew()) // one statement for all leases
+            table.now += 20_000
+            assertFalse(dao2.tryLock(conn, 1, 10)) // renewed - still valid
+            table.now += 31_000
+            assertTrue(dao2.tryLock(conn, 1, 10)) // expired (e.g. owner crashed)
+            assertEquals(0, dao1.renew()) // 1-10 is lost, expired 1-11 purged
+            assertNull(table.owner(1, 11))
+        }
+        dao1.close()
+        dao2.close()
+    }
+
+    @Test
+    internal fun test_pooled_provider_holds_no_connection() {
+        KeyLockManagerLeaseDao(dataSource, ownerId = "a").use { dao ->
+            val manager = KeyLockManager(KeyLockConnProviderPooled(dataSource, dao))
+            val other = KeyLockManagerLeaseDao(dataSource, ownerId = "b")
+            manager.runLocked(1, 10) {
+                assertEquals(0, dataSource.openCount)
+                assertEquals("a", table.owner(1, 10))
+                assertThrows<LockedResourceException> {
+                    KeyLockManager(KeyLockConnProviderPooled(dataSource, other)).runLocked(1, 10) { }
+                }
+            }
+            assertNull(table.owner(1, 10))
+            assertEquals(0, dataSource.openCount)
+            other.close()
+        }
+    }
+
+    @Test
+    internal fun test_failed_statement_is_rolled_back_in_manual_commit_mode() {
+        val calls = ArrayList<String>()
+        val failing = Proxy.newProxyInstance(javaClass.classLoader, arrayOf(PreparedStatement::class.java)) { _, method, _ ->
+            when (method.name) {
+                "executeUpdate" -> throw SQLException("current transaction is aborted")
+                "close" -> null
+                else -> null // setters
+            }
+        }
+        val conn = Proxy.newProxyInstance(javaClass.classLoader, arrayOf(Connection::class.java)) { _, method, _ ->
+            when (method.name) {
+                "getAutoCommit" -> false
+                "prepareStatement" -> failing
+                "commit", "rollback" -> { calls.add(method.name); null }
+                else -> throw UnsupportedOperationException("Fake connection: ${method.name}")
+            }
+        } as Connection
+        val dao = KeyLockManagerLeaseDao(dataSource, ownerId = "a")
+        assertFalse(dao.tryLock(conn, 1, 10))
+        dao.unlock(conn, 1, 10)
+        assertEquals(listOf("rollback", "rollback"), calls)
+        dao.close()
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.labai.utils.keylock.pg
+
+import com.github.labai.utils.keylock.KeyLockAdaptiveLimiter
+import com.github.labai.utils.keylock.KeyLockConnProviderDb
+import com.github.labai.utils.keylock.KeyLockManager
+import com.github.labai.utils.keylock.LockedResourceException
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.io.PrintWriter
+import java.lang.reflect.Proxy
+import java.sql.Connection
+import java.sql.PreparedStatement
+import java.sql.ResultSet
+import java.sql.SQLException
+import java.time.Duration
+import java.util.logging.Logger
+import javax.sql.DataSource
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+/**
+ * @author Augustus
+ *         created on 2026.10.19
+ *
+ * error handling of pg dao (it swallows SQL errors) - with stub connections
+ */
+class KeyLockManagerPgDaoTest {
+
+    // every lock is granted; broken connections fail with sqlState (as pg driver does)
+    private class StubDataSource : DataSource {
+        var opened = 0
+        @Volatile var brokenUpTo = 0
+        @Volatile var errorState: String? = null // statement error of live connections
+
+        override fun getConnection(): Connection {
+            val id = ++opened
+            var closed = false
+            return Proxy.newProxyInstance(javaClass.classLoader, arrayOf(Connection::class.java)) { proxy, method, args ->
+                when (method.name) {
+                    "prepareStatement" -> statement { if (id <= brokenUpTo) "08006" else errorState }
+                    "isValid" -> !closed && id > brokenUpTo
+                    "isClosed" -> closed
+                    "close" -> { closed = true; null }
+                    "hashCode" -> System.identityHashCode(proxy)
+                    "equals" -> proxy === args[0]
+                    else -> throw UnsupportedOperationException("Stub connection: ${method.name}")
+                }
+            } as Connection
+        }
+
+        private fun statement(state: () -> String?): PreparedStatement {
+            return Proxy.newProxyInstance(javaClass.classLoader, arrayOf(PreparedStatement::class.java)) { _, method, _ ->
+                when (method.name) {
+                    "setInt", "setLong", "setString", "close" -> null
+                    "executeQuery" -> state()?.let { throw SQLException("Stub error", it) } ?: result()
+                    else -> throw UnsupportedOperationException("Stub statement: ${method.name}")
+                }
+            } as PreparedStatement
+        }
+
+        private fun result(): ResultSet {
+            var rows = 1
+            return Proxy.newProxyInstance(javaClass.classLoader, arrayOf(ResultSet::class.java)) { _, method, _ ->
+                when (method.name) {
+                    "next" -> rows-- > 0
+                    "getObject" -> 1L
+                    "close" -> null
+                    else -> throw UnsupportedOperationException("Stub result: ${method.name}")
+                }
+            } as ResultSet
+        }
+
+        override fun getConnection(username: String?, password: String?): Connection = connection
+        override fun getLogWriter(): PrintWriter? = null
+        override fun setLogWriter(out: PrintWriter?) {}
+        override fun setLoginTimeout(seconds: Int) {}
+        override fun getLoginTimeout(): Int = 0
+        override fun getParentLogger(): Logger = throw UnsupportedOperationException()
+        override fun <T : Any?> unwrap(iface: Class<T>?): T = throw UnsupportedOperationException()
+        override fun isWrapperFor(iface: Class<*>?): Boolean = false
+    }
+
+    private val dataSource = StubDataSource()
+    private val manager = KeyLockManager(KeyLockConnProviderDb(dataSource, KeyLockManagerPgDao()))
+
+    @Test
+    internal fun test_broken_connection_replaces_session() {
+        manager.runLocked(1, 10) {
+            dataSource.brokenUpTo = dataSource.opened
+            assertThrows<SQLException> { manager.runLocked(1, 11) { } }
+            assertFalse(manager.isHeld(1, 10))
+            manager.runLocked(1, 12) { assertTrue(manager.isHeld(1, 12)) } // new session
+        }
+        assertEquals(2, dataSource.opened)
+    }
+
+    @Test
+    internal fun test_other_errors_mean_not_locked() {
+        manager.runLocked(1, 10) {
+            dataSource.errorState = "55P03" // lock not available
+            assertThrows<LockedResourceException> { manager.runLocked(1, 11) { } }
+            dataSource.errorState = null
+            assertTrue(manager.isHeld(1, 10))
+        }
+        assertEquals(1, dataSource.opened)
+    }
+
+    @Test
+    internal fun test_swallowed_error_is_failure_for_limiter() {
+        val limiter = KeyLockAdaptiveLimiter(initialLimit = 10, latencyThreshold = Duration.ofSeconds(10))
+        val limited = KeyLockManager(KeyLockConnProviderDb(dataSource, KeyLockManagerPgDao(listener = limiter), limiter = limiter))
+        limited.runLocked(1, 10) { }
+        assertEquals(10, limiter.limit())
+        dataSource.errorState = "XX000"
+        assertThrows<LockedResourceException> { limited.runLocked(1, 11) { } }
+        assertEquals(9, limiter.limit())
+    }
+}
@@ -0,0 +1,637 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Augustus, 2026.10.19
+ * compiles language grammars (src/main/grammar/*.grammar) to table-driven
+ * converters (impl.NumToWordsXx) and their registry (Languages - by language code).
+ * Runs at generate-sources phase.
+ *
+ * All grammar rules (templates, plural forms, genders, omissions) are
+ * evaluated here for every triplet value 0..999, so generated converter
+ * contains only tables. Format of grammar is described in README.md.
+ *
+ * usage: GrammarCompiler grammarDir outputDir
+ */
+public class GrammarCompiler {
+    private static final String PACKAGE = "com.github.labai.utils.num2word.impl";
+    private static final String REGISTRY_PACKAGE = "com.github.labai.utils.num2word";
+    private static final char GLUE = 0x8000; // same as TableConverter.GLUE
+
+    private static final Pattern LANG = Pattern.compile("[a-z]+");
+    private static final Pattern DIGIT_KEY = Pattern.compile("(teens|tens|hundreds)\\.(\\d)");
+    private static final Pattern HUNDRED_IF_KEY = Pattern.compile("hundreds\\.(\\d)\\[(\\d+)\\.\\.(\\d+)]");
+    private static final Pattern GENDER_KEY = Pattern.compile("([a-z]+)\\.ones\\.(\\d)");
+    private static final Pattern SCALE_KEY = Pattern.compile("scale\\.(\\d+)(\\.gender|\\.omit-one)?");
+    private static final Pattern RULE = Pattern.compile("(\\d+)(?:\\s+if\\s+(.+))?");
+    private static final Pattern COND = Pattern.compile("n(?:\\s*%\\s*(\\d+))?\\s*(==|!=|in)\\s*(\\d+)(?:\\s*\\.\\.\\s*(\\d+))?");
+
+    private final Grammar grammar;
+    private final Map<String, Integer> vocab = new LinkedHashMap<>();
+    private final List<String[]> parserTokens = new ArrayList<>(); // text, kind, value
+
+    private String[] ones;
+    private String[] teens;
+    private String[] tens;
+    private String[] hundreds;
+    private final List<int[]> hundredsIf = new ArrayList<>(); // digit, from, to, phrase index in hundredsIfPhrases
+    private final List<String> hundredsIfPhrases = new ArrayList<>();
+    private final Map<String, String[]> genders = new LinkedHashMap<>();
+    private final List<String[]> scales = new ArrayList<>(); // [pos] - forms
+    private final List<String> variantKeys = new ArrayList<>(); // gender/omit-one
+    private int[] forms;
+    private int formCount;
+
+    private GrammarCompiler(Grammar grammar) {
+        this.grammar = grammar;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2)
+            throw new IllegalArgumentException("Usage: GrammarCompiler grammarDir outputDir");
+        Path grammarDir = Paths.get(args[0]);
+        Path outDir = Paths.get(args[1]).resolve(PACKAGE.replace('.', '/'));
+        Path registryDir = Paths.get(args[1]).resolve(REGISTRY_PACKAGE.replace('.', '/'));
+        Files.createDirectories(outDir);
+        Map<String, String> classes = new TreeMap<>(); // lang -> class name
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(grammarDir, "*.grammar")) {
+            for (Path file : files) {
+                Grammar grammar = Grammar.load(file);
+                GrammarCompiler compiler = new GrammarCompiler(grammar);
+                String source;
+                try {
+                    source = compiler.compile();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(file + ": " + e.getMessage(), e);
+                }
+                writeIfChanged(outDir.resolve(compiler.className() + ".java"), source);
+                if (classes.put(grammar.get("lang"), compiler.className()) != null)
+                    throw new IllegalArgumentException(file + ": duplicate lang '" + grammar.get("lang") + "'");
+            }
+        }
+        writeIfChanged(registryDir.resolve("Languages.java"), generateRegistry(classes));
+    }
+
+    // functions of every language by its code (for converters)
+    static String generateRegistry(Map<String, String> classes) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("// Generated by GrammarCompiler from src/main/grammar - do not edit\n");
+        sb.append("package ").append(REGISTRY_PACKAGE).append(";\n\n");
+        for (String className : classes.values()) {
+            sb.append("import ").append(PACKAGE).append('.').append(className).append(";\n");
+        }
+        sb.append("\n");
+        sb.append("/**\n");
+        sb.append(" * languages of grammars: ").append(String.join(", ", classes.keySet())).append("\n");
+        sb.append(" */\n");
+        sb.append("final class Languages {\n");
+        for (Map.Entry<String, String> e : classes.entrySet()) {
+            String c = e.getValue();
+            sb.append("    private static final Language ").append(e.getKey().toUpperCase()).append(" = new Language(")
+                .append(c).append("::numberToWords, ").append(c).append("::appendWords, ").append(c).append("::writeUtf8, ")
+                .append(c).append("::lazyWords,\n");
+            sb.append("        ").append(c).append("::appendWords, ").append(c).append("::writeUtf8, ")
+                .append(c).append("::appendWords, ").append(c).append("::parser);\n");
+        }
+        sb.append("\n");
+        sb.append("    private Languages() {\n");
+        sb.append("    }\n\n");
+        sb.append("    // null - no grammar of language\n");
+        sb.append("    static Language get(String lang) {\n");
+        sb.append("        switch (lang) {\n");
+        for (String lang : classes.keySet()) {
+            sb.append("            case \"").append(lang).append("\":\n");
+            sb.append("                return ").append(lang.toUpperCase()).append(";\n");
+        }
+        sb.append("            default:\n");
+        sb.append("                return null;\n");
+        sb.append("        }\n");
+        sb.append("    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private String className() {
+        String lang = grammar.get("lang");
+        return "NumToWords" + Character.toUpperCase(lang.charAt(0)) + lang.substring(1);
+    }
+
+    String compile() {
+        if (!LANG.matcher(grammar.get("lang")).matches())
+            throw new IllegalArgumentException("Invalid lang '" + grammar.get("lang") + "'");
+        grammar.get("name");
+        readVocabulary();
+        readScales();
+        readPlural();
+
+        int zero = code(grammar.get("zero"));
+        int minus = code(grammar.get("minus"));
+        int point = code(grammar.get("point"));
+        token(grammar.get("zero"), "ZERO", 0);
+        token(grammar.get("minus"), "MINUS", 0);
+        collectParserTokens();
+
+        List<String> triplets = new ArrayList<>();
+        for (String variant : variantKeys) {
+            triplets.add(packTriplets(variant));
+        }
+        StringBuilder scaleTable = new StringBuilder();
+        StringBuilder variants = new StringBuilder();
+        for (int pos = 0; pos < scales.size(); pos++) {
+            for (int form = 0; form < formCount; form++) {
+                pack(scaleTable, pos == 0 ? "" : scaleForm(pos, form));
+            }
+            variants.append((char) variantKeys.indexOf(variantKey(pos)));
+        }
+        StringBuilder formTable = new StringBuilder();
+        for (int value = 0; value < 1000; value++) {
+            formTable.append((char) forms[value]);
+        }
+        for (String key : grammar.values.keySet()) {
+            if (!grammar.used.contains(key))
+                throw new IllegalArgumentException("Unknown key '" + key + "'");
+        }
+        return generate(zero, minus, point, triplets, scaleTable.toString(), variants.toString(), formTable.toString());
+    }
+
+    private void readVocabulary() {
+        ones = digits("ones", null);
+        teens = digits("teens", ones);
+        tens = digits("tens", ones);
+        hundreds = digits("hundreds", ones);
+        for (String key : grammar.keys()) {
+            Matcher m = HUNDRED_IF_KEY.matcher(key);
+            if (m.matches()) {
+                int from = Integer.parseInt(m.group(2));
+                int to = Integer.parseInt(m.group(3));
+                if (from > to || to > 99)
+                    throw new IllegalArgumentException("Invalid range in '" + key + "'");
+                hundredsIf.add(new int[]{Integer.parseInt(m.group(1)), from, to, hundredsIfPhrases.size()});
+                hundredsIfPhrases.add(grammar.get(key));
+            }
+            m = GENDER_KEY.matcher(key);
+            if (m.matches()) {
+                String[] gendered = genders.get(m.group(1));
+                if (gendered == null) {
+                    gendered = ones.clone();
+                    genders.put(m.group(1), gendered);
+                }
+                gendered[Integer.parseInt(m.group(2))] = grammar.get(key);
+            }
+        }
+        for (int i = 1; i < 10; i++) {
+            require(ones[i], "ones." + i);
+            require(teens[i], "teens." + i);
+            require(hundreds[i], "hundreds." + i);
+            if (i > 1)
+                require(tens[i], "tens." + i);
+        }
+        require(teens[0], "teens.0");
+    }
+
+    // list of 10 phrases ('-' - none) or template with {ones}, plus overrides 'name.digit'
+    private String[] digits(String name, String[] ones) {
+        String value = grammar.get(name);
+        String[] res = new String[10];
+        if (value.contains(",") || ones == null) {
+            String[] items = value.split(",");
+            if (items.length != 10)
+                throw new IllegalArgumentException("'" + name + "' must have 10 items (found " + items.length + ")");
+            for (int i = 0; i < 10; i++) {
+                String item = items[i].trim();
+                res[i] = item.equals("-") ? "" : item;
+            }
+        } else {
+            if (!value.contains("{ones}"))
+                throw new IllegalArgumentException("'" + name + "' must be list of 10 items or template with {ones}");
+            for (int i = 0; i < 10; i++) {
+                res[i] = ones[i].isEmpty() ? "" : value.replace("{ones}", ones[i]);
+            }
+        }
+        for (String key : grammar.keys()) {
+            Matcher m = DIGIT_KEY.matcher(key);
+            if (m.matches() && m.group(1).equals(name)) {
+                res[Integer.parseInt(m.group(2))] = grammar.get(key);
+            }
+        }
+        return res;
+    }
+
+    private void readScales() {
+        scales.add(new String[0]);
+        variantKeys.add(variantKey(0));
+        for (int pos = 1; grammar.has("scale." + pos); pos++) {
+            String[] items = grammar.get("scale." + pos).split(",");
+            for (int i = 0; i < items.length; i++) {
+                items[i] = items[i].trim();
+                require(items[i], "scale." + pos);
+            }
+            scales.add(items);
+            if (!variantKeys.contains(variantKey(pos)))
+                variantKeys.add(variantKey(pos));
+        }
+        for (String key : grammar.keys()) {
+            Matcher m = SCALE_KEY.matcher(key);
+            if (m.matches() && Integer.parseInt(m.group(1)) >= scales.size())
+                throw new IllegalArgumentException("'" + key + "' - scales must be numbered from 1 without gaps");
+        }
+        if (scales.size() < 2)
+            throw new IllegalArgumentException("No scales (scale.1 = ...)");
+    }
+
+    private String variantKey(int pos) {
+        if (pos == 0)
+            return "/false";
+        String gender = grammar.has("scale." + pos + ".gender") ? grammar.get("scale." + pos + ".gender") : "";
+        if (!gender.isEmpty() && !genders.containsKey(gender))
+            throw new IllegalArgumentException("Unknown gender '" + gender + "' (no '" + gender + ".ones.N' words)");
+        String omit = grammar.has("scale." + pos + ".omit-one") ? grammar.get("scale." + pos + ".omit-one") : "false";
+        if (!omit.equals("true") && !omit.equals("false"))
+            throw new IllegalArgumentException("'scale." + pos + ".omit-one' must be true or false");
+        return gender + "/" + omit;
+    }
+
+    // plural = form if cond [and cond]; ...; default form
+    private void readPlural() {
+        forms = new int[1000];
+        formCount = 1;
+        if (!grammar.has("plural"))
+            return;
+        String[] rules = grammar.get("plural").split(";");
+        for (int value = 1; value < 1000; value++) {
+            forms[value] = -1;
+            for (int r = 0; r < rules.length && forms[value] < 0; r++) {
+                Matcher m = RULE.matcher(rules[r].trim());
+                if (!m.matches())
+                    throw new IllegalArgumentException("Invalid plural rule '" + rules[r].trim() + "'");
+                if (m.group(2) == null || matches(m.group(2), value))
+                    forms[value] = Integer.parseInt(m.group(1));
+            }
+            if (forms[value] < 0)
+                throw new IllegalArgumentException("No plural form for " + value + " (default form is missing)");
+            formCount = Math.max(formCount, forms[value] + 1);
+        }
+    }
+
+    private static boolean matches(String conditions, int value) {
+        for (String cond : conditions.split("\\s+and\\s+")) {
+            Matcher m = COND.matcher(cond.trim());
+            if (!m.matches())
+                throw new IllegalArgumentException("Invalid plural condition '" + cond.trim() + "'");
+            int n = m.group(1) == null ? value : value % Integer.parseInt(m.group(1));
+            int from = Integer.parseInt(m.group(3));
+            int to = m.group(4) == null ? from : Integer.parseInt(m.group(4));
+            boolean res;
+            switch (m.group(2)) {
+                case "==":
+                    res = n == from;
+                    break;
+                case "!=":
+                    res = n != from;
+                    break;
+                default:
+                    res = n >= from && n <= to;
+            }
+            if (!res)
+                return false;
+        }
+        return true;
+    }
+
+    private String scaleForm(int pos, int form) {
+        String[] items = scales.get(pos);
+        if (items.length == 1)
+            return items[0];
+        if (items.length < formCount) // more is ok - extra forms are accepted by parser
+            throw new IllegalArgumentException("'scale." + pos + "' must have 1 or at least " + formCount + " forms");
+        return items[form];
+    }
+
+    // words of triplet value (0..999), for variant of scale
+    private String phrase(String variant, int value) {
+        String gender = variant.substring(0, variant.indexOf('/'));
+        boolean omitOne = variant.endsWith("/true");
+        if (value == 0 || (omitOne && value == 1))
+            return "";
+        String[] units = gender.isEmpty() ? ones : genders.get(gender);
+        int hund = value / 100;
+        int rest = value % 100;
+        List<String> words = new ArrayList<>();
+        if (hund > 0) {
+            String hundred = hundreds[hund];
+            for (int[] cond : hundredsIf) {
+                if (cond[0] == hund && rest >= cond[1] && rest <= cond[2])
+                    hundred = hundredsIfPhrases.get(cond[3]);
+            }
+            words.add(hundred);
+        }
+        if (rest >= 10 && rest < 20) {
+            words.add(teens[rest - 10]);
+        } else {
+            if (rest >= 20)
+                words.add(tens[rest / 10]);
+            if (rest % 10 > 0)
+                words.add(units[rest % 10]);
+        }
+        return String.join(" ", words);
+    }
+
+    private String packTriplets(String variant) {
+        StringBuilder sb = new StringBuilder();
+        for (int value = 0; value < 1000; value++) {
+            pack(sb, phrase(variant, value));
+        }
+        return sb.toString();
+    }
+
+    // (length, codes...), '+' glues fragment to previous word
+    private void pack(StringBuilder sb, String phrase) {
+        List<Character> codes = new ArrayList<>();
+        for (String word : phrase.trim().split("\\s+")) {
+            if (word.isEmpty())
+                continue;
+            String[] parts = word.split("\\+");
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i].isEmpty())
+                    throw new IllegalArgumentException("Invalid word '" + word + "'");
+                codes.add((char) (code(parts[i]) | (i > 0 ? GLUE : 0)));
+            }
+        }
+        sb.append((char) codes.size());
+        for (char code : codes) {
+            sb.append(code);
+        }
+    }
+
+    private int code(String fragment) {
+        Integer code = vocab.get(fragment);
+        if (code == null) {
+            code = vocab.size();
+            if (code >= GLUE)
+                throw new IllegalArgumentException("Vocabulary is too big");
+            vocab.put(fragment, code);
+        }
+        return code;
+    }
+
+    private void collectParserTokens() {
+        for (int i = 1; i < 10; i++) {
+            token(ones[i], "UNIT", i);
+            for (String[] gendered : genders.values()) {
+                token(gendered[i], "UNIT", i);
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            token(teens[i], "UNIT", 10 + i);
+        }
+        for (int i = 1; i < 10; i++) {
+            if (!tens[i].isEmpty())
+                token(tens[i], "UNIT", 10 * i);
+        }
+        for (int i = 1; i < 10; i++) {
+            hundredToken(hundreds[i], i);
+        }
+        for (int[] cond : hundredsIf) {
+            hundredToken(hundredsIfPhrases.get(cond[3]), cond[0]);
+        }
+        for (int pos = 1; pos < scales.size(); pos++) {
+            for (String form : scales.get(pos)) {
+                token(form, "SCALE", pos);
+            }
+        }
+    }
+
+    // 'šimtas' - 100 (HUNDREDS), 'du šimtai' - 'du' * 'šimtai' (HUNDRED multiplier)
+    private void hundredToken(String phrase, int digit) {
+        String[] words = phrase.trim().split("\\s+");
+        if (words.length == 1) {
+            token(words[0], "HUNDREDS", digit * 100);
+        } else if (words.length == 2 && words[0].equals(ones[digit])) {
+            token(words[1], "HUNDRED", 0);
+        } else {
+            throw new IllegalArgumentException("Hundreds must be single word or '{ones} word' (found '" + phrase + "')");
+        }
+    }
+
+    private void token(String phrase, String kind, int value) {
+        String text = phrase.trim().replace("+", "").toLowerCase();
+        if (text.contains(" "))
+            throw new IllegalArgumentException("Word for " + value + " must not contain spaces (found '" + phrase + "')");
+        for (String[] token : parserTokens) {
+            if (token[0].equals(text)) {
+                if (token[1].equals(kind) && token[2].equals(String.valueOf(value)))
+                    return;
+                throw new IllegalArgumentException("Ambiguous word '" + text + "'");
+            }
+        }
+        parserTokens.add(new String[]{text, kind, String.valueOf(value)});
+    }
+
+    private String generate(int zero, int minus, int point, List<String> triplets, String scaleTable, String variants, String formTable) {
+        String file = grammar.get("lang") + ".grammar";
+        StringBuilder sb = new StringBuilder();
+        sb.append("// Generated by GrammarCompiler from src/main/grammar/").append(file).append(" - do not edit\n");
+        sb.append("package ").append(PACKAGE).append(";\n\n");
+        sb.append("import java.math.BigDecimal;\n");
+        sb.append("import java.math.BigInteger;\n\n");
+        sb.append("/**\n");
+        sb.append(" * number to words - ").append(grammar.get("name")).append(" version\n");
+        sb.append(" * (tables generated from ").append(file).append(", conversion is in TableConverter)\n");
+        sb.append(" */\n");
+        sb.append("public class ").append(className()).append(" {\n");
+        sb.append("    private static final TableConverter CONVERTER = new TableConverter(\n");
+        sb.append("        // vocabulary\n");
+        sb.append("        new String[]{\n");
+        int i = 0;
+        for (String fragment : vocab.keySet()) {
+            sb.append("            \"").append(fragment).append("\", // ").append(i++).append('\n');
+        }
+        sb.append("        },\n");
+        sb.append("        ").append(zero).append(", // zero\n");
+        sb.append("        ").append(minus).append(", // minus\n");
+        sb.append("        ").append(point).append(", // point\n");
+        sb.append("        // triplet words by variant (").append(String.join(", ", variantKeys)).append(")\n");
+        sb.append("        new String[]{\n");
+        for (String packed : triplets) {
+            appendPacked(sb, packed, 1000, "            ", ",");
+        }
+        sb.append("        },\n");
+        sb.append("        // scale words by form\n");
+        appendPacked(sb, scaleTable, scales.size() * formCount, "        ", ",");
+        sb.append("        ").append(formCount).append(", // form count\n");
+        sb.append("        ").append(literal(variants)).append(", // variant by scale\n");
+        sb.append("        // form of scale word by triplet value\n");
+        for (int value = 0; value < 1000; value += 100) {
+            sb.append(value == 0 ? "        " : "        + ").append(literal(formTable.substring(value, value + 100)));
+            sb.append(value == 900 ? ",\n" : "\n");
+        }
+        sb.append("        // parser words\n");
+        sb.append("        new String[]{\n");
+        for (String[] token : parserTokens) {
+            sb.append("            \"").append(token[0]).append("\",\n");
+        }
+        sb.append("        },\n");
+        sb.append("        new int[]{\n");
+        for (String[] token : parserTokens) {
+            sb.append("            WordsParser.").append(token[1]).append(", ").append(token[2]).append(",\n");
+        }
+        sb.append("        }\n");
+        sb.append("    );\n\n");
+        sb.append(
+            "    public static String numberToWords(long number) {\n" +
+            "        return CONVERTER.numberToWords(number);\n" +
+            "    }\n\n" +
+            "    public static void appendWords(long number, StringBuilder sb) {\n" +
+            "        CONVERTER.render(number, new Utils.StrSink(sb));\n" +
+            "    }\n\n" +
+            "    public static void writeUtf8(long number, Utf8Sink out) {\n" +
+            "        CONVERTER.render(number, out);\n" +
+            "    }\n\n" +
+            "    public static String numberToWords(BigInteger number) {\n" +
+            "        return CONVERTER.numberToWords(new BigDecimal(number));\n" +
+            "    }\n\n" +
+            "    // fraction digits are written one by one after 'point'\n" +
+            "    public static String numberToWords(BigDecimal number) {\n" +
+            "        return CONVERTER.numberToWords(number);\n" +
+            "    }\n\n" +
+            "    public static void appendWords(BigDecimal number, StringBuilder sb) {\n" +
+            "        CONVERTER.render(number, new Utils.StrSink(sb));\n" +
+            "    }\n\n" +
+            "    public static void writeUtf8(BigDecimal number, Utf8Sink out) {\n" +
+            "        CONVERTER.render(number, out);\n" +
+            "    }\n\n" +
+            "    // not materialized words\n" +
+            "    public static NumberWords lazyWords(long number) {\n" +
+            "        return new NumberWords(CONVERTER, number);\n" +
+            "    }\n\n" +
+            "    public static void appendWords(Triplets number, StringBuilder sb) {\n" +
+            "        CONVERTER.render(number, new Utils.StrSink(sb));\n" +
+            "    }\n\n" +
+            "    public static long wordsToNumber(CharSequence words) {\n" +
+            "        return CONVERTER.parser().parse(words);\n" +
+            "    }\n\n" +
+            "    public static WordsParser parser() {\n" +
+            "        return CONVERTER.parser();\n" +
+            "    }\n\n" +
+            "    static void render(long number, WordSink out) {\n" +
+            "        CONVERTER.render(number, out);\n" +
+            "    }\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    // packed table of 'count' entries (length, codes...) as concatenated literal, 10 entries per line
+    private static void appendPacked(StringBuilder sb, String packed, int count, String indent, String end) {
+        int p = 0;
+        for (int i = 0; i < count; i += 10) {
+            int start = p;
+            int last = Math.min(i + 10, count) - 1;
+            for (int k = i; k <= last; k++) {
+                p += 1 + packed.charAt(p);
+            }
+            sb.append(i == 0 ? indent : indent + "+ ").append(literal(packed.substring(start, p)));
+            sb.append(last == count - 1 ? end : "").append(" // ").append(i).append("..").append(last).append('\n');
+        }
+    }
+
+    private static String literal(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char ch : s.toCharArray()) {
+            // octal for small codes, as unicode escape of line feed would break the literal for javac
+            sb.append(ch < 0x100 ? String.format("\\%03o", (int) ch) : String.format("\\u%04x", (int) ch));
+        }
+        return sb.append('"').toString();
+    }
+
+    private static void require(String value, String key) {
+        if (value == null || value.trim().isEmpty())
+            throw new IllegalArgumentException("Missing word for '" + key + "'");
+    }
+
+    private static void writeIfChanged(Path file, String source) throws IOException {
+        byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+        if (Files.exists(file) && Arrays.equals(Files.readAllBytes(file), bytes))
+            return;
+        Files.write(file, bytes);
+    }
+
+    /**
+     * grammar file - 'key = value' lines, '#' comments
+     */
+    static class Grammar {
+        private final Map<String, String> values = new LinkedHashMap<>();
+        private final Set<String> used = new HashSet<>();
+
+        static Grammar load(Path file) throws IOException {
+            Grammar grammar = new Grammar();
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+                int eq = line.indexOf('=');
+                if (eq < 0)
+                    throw new IllegalArgumentException(file + ":" + (i + 1) + ": expected 'key = value'");
+                String key = line.substring(0, eq).trim();
+                if (grammar.values.put(key, line.substring(eq + 1).trim()) != null)
+                    throw new IllegalArgumentException(file + ":" + (i + 1) + ": duplicate key '" + key + "'");
+            }
+            return grammar;
+        }
+
+        boolean has(String key) {
+            return values.containsKey(key);
+        }
+
+        String get(String key) {
+            String value = values.get(key);
+            if (value == null)
+                throw new IllegalArgumentException("Missing '" + key + "'");
+            used.add(key);
+            return value;
+        }
+
+        List<String> keys() {
+            return new ArrayList<>(values.keySet());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.BulkNumberToWordsConverter;
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * bulk conversion scaling by pool size
+ * (parallelism above available cores does not give more)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkConvertBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"lt"})
+    String lang;
+
+    private long[] numbers;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        numbers = new long[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = random.nextInt(100_000_000);
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String[] loopSingle() {
+        String[] res = new String[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            res[i] = NumberToWordsConverter.numberToWords(numbers[i], lang);
+        }
+        return res;
+    }
+
+    @Benchmark
+    public String[] bulk() {
+        return BulkNumberToWordsConverter.numbersToWords(numbers, lang, pool);
+    }
+}
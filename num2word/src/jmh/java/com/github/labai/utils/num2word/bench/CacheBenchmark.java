@@ -0,0 +1,119 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.CachedNumberToWordsConverter;
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * cached vs not cached amountToWords on Zipf distributed amounts
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheBenchmark {
+    private static final int SAMPLES = 1 << 16;
+
+    @Param({"lt"})
+    String lang;
+
+    @Param({"100000"})
+    int distinct;
+
+    @Param({"10000"})
+    int cacheSize;
+
+    @Param({"1.0"})
+    double skew;
+
+    private BigDecimal[] amounts;
+    private long[] numbers;
+    private CachedNumberToWordsConverter cached;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int pos;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        BigDecimal[] values = new BigDecimal[distinct];
+        for (int i = 0; i < distinct; i++) {
+            values[i] = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+        }
+        Zipf zipf = new Zipf(distinct, skew);
+        amounts = new BigDecimal[SAMPLES];
+        numbers = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = values[zipf.next(random)];
+            numbers[i] = amounts[i].longValue();
+        }
+        cached = new CachedNumberToWordsConverter(lang, cacheSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CachedNumberToWordsConverter.CacheStats stats = cached.stats();
+        if (stats.hits + stats.misses > 0)
+            System.out.println("\n" + stats + " hitRate=" + stats.hitRate());
+    }
+
+    @Benchmark
+    public String amountDirect(Cursor c) {
+        return NumberToWordsConverter.amountToWords(amounts[c.pos++ & (SAMPLES - 1)], lang);
+    }
+
+    @Benchmark
+    public String amountCached(Cursor c) {
+        return cached.amountToWords(amounts[c.pos++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public String numberDirect(Cursor c) {
+        return NumberToWordsConverter.numberToWords(numbers[c.pos++ & (SAMPLES - 1)], lang);
+    }
+
+    @Benchmark
+    public String numberCached(Cursor c) {
+        return cached.numberToWords(numbers[c.pos++ & (SAMPLES - 1)]);
+    }
+
+    // Zipf distribution over ranks 0..n-1 (inverse cdf)
+    static class Zipf {
+        private final double[] cdf;
+
+        Zipf(int n, double s) {
+            cdf = new double[n];
+            double sum = 0;
+            for (int i = 0; i < n; i++) {
+                sum += 1.0 / Math.pow(i + 1, s);
+                cdf[i] = sum;
+            }
+            for (int i = 0; i < n; i++) {
+                cdf[i] /= sum;
+            }
+        }
+
+        int next(Random random) {
+            int idx = Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(idx < 0 ? -idx - 1 : idx, cdf.length - 1);
+        }
+    }
+}
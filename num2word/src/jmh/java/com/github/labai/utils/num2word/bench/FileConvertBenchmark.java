@@ -0,0 +1,88 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.AmountFileConverter;
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * AmountFileConverter vs reading lines as Strings and calling amountToWords
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileConvertBenchmark {
+
+    @Param({"200000"})
+    int rows;
+
+    @Param({"lt"})
+    String lang;
+
+    private Path input;
+    private Path output;
+    private AmountFileConverter converter;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        input = Files.createTempFile("n2w-in", ".csv");
+        output = Files.createTempFile("n2w-out", ".csv");
+        Random random = new Random(42);
+        try (BufferedWriter writer = Files.newBufferedWriter(input, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(i + ";" + BigDecimal.valueOf(random.nextInt(100_000_000), 2) + ";invoice " + i + "\n");
+            }
+        }
+        converter = new AmountFileConverter(lang, 1, ';', false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public long lineByLine() throws IOException {
+        long cnt = 0;
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(";");
+                writer.write(line);
+                writer.write(';');
+                writer.write(NumberToWordsConverter.amountToWords(new BigDecimal(cols[1]), lang));
+                writer.write('\n');
+                cnt++;
+            }
+        }
+        return cnt;
+    }
+
+    @Benchmark
+    public long streaming() throws IOException {
+        return converter.convert(input, output);
+    }
+}
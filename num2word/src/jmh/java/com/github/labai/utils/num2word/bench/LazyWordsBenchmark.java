@@ -0,0 +1,60 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * words into bigger template buffer: numberToWords String vs lazy NumberWords.appendTo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LazyWordsBenchmark {
+    private static final int SAMPLES = 1 << 12;
+
+    @Param({"lt", "ru"})
+    String lang;
+
+    private long[] numbers;
+    private final StringBuilder template = new StringBuilder(1024);
+    private int pos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        numbers = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            numbers[i] = random.nextInt(100_000_000);
+        }
+    }
+
+    @Benchmark
+    public StringBuilder viaString() {
+        template.setLength(0);
+        template.append("Total amount: ");
+        template.append(NumberToWordsConverter.numberToWords(numbers[pos++ & (SAMPLES - 1)], lang));
+        return template.append(" EUR");
+    }
+
+    @Benchmark
+    public StringBuilder lazy() {
+        template.setLength(0);
+        template.append("Total amount: ");
+        NumberToWordsConverter.numberToWordsLazy(numbers[pos++ & (SAMPLES - 1)], lang).appendTo(template);
+        return template.append(" EUR");
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.MultiLangNumberToWordsConverter;
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * amount in 3 languages: independent amountToWords calls vs MultiLangNumberToWordsConverter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiLangBenchmark {
+    private static final int SAMPLES = 1 << 12;
+    private static final String[] LANGS = {"lt", "en", "ru"};
+
+    private BigDecimal[] amounts;
+    private MultiLangNumberToWordsConverter converter;
+    private int pos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        amounts = new BigDecimal[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+        }
+        converter = new MultiLangNumberToWordsConverter(LANGS);
+    }
+
+    @Benchmark
+    public String[] independent() {
+        BigDecimal amount = amounts[pos++ & (SAMPLES - 1)];
+        String[] result = new String[LANGS.length];
+        for (int i = 0; i < LANGS.length; i++) {
+            result[i] = NumberToWordsConverter.amountToWords(amount, LANGS[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String[] multiLang() {
+        return converter.amountToWords(amounts[pos++ & (SAMPLES - 1)]);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * single conversion cost by language, magnitude and input pattern.
+ * run with '-prof gc' (default in jmh profile) to see allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class NumberToWordsBenchmark {
+    private static final int SAMPLES = 1 << 12;
+
+    @Param({"en", "lt", "lv", "et", "ru"})
+    String lang;
+
+    /*
+     * small    - 0..999
+     * large    - 10^12..10^15
+     * negative - -10^9..-1
+     */
+    @Param({"small", "large", "negative"})
+    String magnitude;
+
+    /*
+     * random   - different values on each call
+     * repeated - same value on each call
+     */
+    @Param({"random", "repeated"})
+    String input;
+
+    private long[] numbers;
+    private BigDecimal[] amounts;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int pos;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        numbers = new long[SAMPLES];
+        amounts = new BigDecimal[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long num = "repeated".equals(input) && i > 0 ? numbers[0] : randomNumber(random);
+            numbers[i] = num;
+            amounts[i] = BigDecimal.valueOf(num).add(BigDecimal.valueOf(num < 0 ? -37 : 37, 2));
+        }
+    }
+
+    private long randomNumber(Random random) {
+        switch (magnitude) {
+            case "small":
+                return random.nextInt(1000);
+            case "large":
+                return 1_000_000_000_000L + (long) (random.nextDouble() * 999_000_000_000_000L);
+            case "negative":
+                return -1 - random.nextInt(1_000_000_000);
+            default:
+                throw new IllegalArgumentException("Invalid magnitude '" + magnitude + "'");
+        }
+    }
+
+    @Benchmark
+    public String numberToWords(Cursor c) {
+        return NumberToWordsConverter.numberToWords(numbers[c.pos++ & (SAMPLES - 1)], lang);
+    }
+
+    @Benchmark
+    public String amountToWords(Cursor c) {
+        return NumberToWordsConverter.amountToWords(amounts[c.pos++ & (SAMPLES - 1)], lang);
+    }
+}
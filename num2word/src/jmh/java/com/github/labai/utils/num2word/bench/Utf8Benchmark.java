@@ -0,0 +1,65 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import com.github.labai.utils.num2word.Utf8NumberToWordsWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * amount words to UTF-8 ByteBuffer: String + encoding vs direct bytes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Utf8Benchmark {
+    private static final int SAMPLES = 1 << 12;
+
+    @Param({"lt", "ru"})
+    String lang;
+
+    private BigDecimal[] amounts;
+    private Utf8NumberToWordsWriter writer;
+    private final ByteBuffer buf = ByteBuffer.allocate(1024);
+    private int pos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        amounts = new BigDecimal[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+        }
+        writer = new Utf8NumberToWordsWriter(lang);
+    }
+
+    @Benchmark
+    public ByteBuffer viaString() {
+        buf.clear();
+        String words = NumberToWordsConverter.amountToWords(amounts[pos++ & (SAMPLES - 1)], lang);
+        buf.put(words.getBytes(StandardCharsets.UTF_8));
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuffer direct() {
+        buf.clear();
+        writer.writeAmount(amounts[pos++ & (SAMPLES - 1)], buf);
+        return buf;
+    }
+}
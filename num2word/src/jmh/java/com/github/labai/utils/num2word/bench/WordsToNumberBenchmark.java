@@ -0,0 +1,50 @@
+package com.github.labai.utils.num2word.bench;
+
+import com.github.labai.utils.num2word.NumberToWordsConverter;
+import com.github.labai.utils.num2word.WordsToNumberConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ *
+ * parse amount in words (e.g. for validation of amounts in documents)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WordsToNumberBenchmark {
+    private static final int SAMPLES = 1 << 12;
+
+    @Param({"en", "lt", "lv", "et", "ru"})
+    String lang;
+
+    private String[] words;
+    private int pos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        words = new String[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            words[i] = NumberToWordsConverter.amountToWords(BigDecimal.valueOf(random.nextInt(100_000_000), 2), lang);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal wordsToAmount() {
+        return WordsToNumberConverter.wordsToAmount(words[pos++ & (SAMPLES - 1)], lang);
+    }
+}
@@ -0,0 +1,283 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import com.github.labai.utils.num2word.impl.Utf8Sink;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Augustus, 2026.10.19
+ * adds amount in words column to each row of delimited (csv) file.
+ *
+ * Works with bytes - file is read through FileChannel by fixed size buffer,
+ * amount is parsed from bytes and words are written as UTF-8 bytes,
+ * so memory usage does not depend on file size (buffer grows only for
+ * lines longer than the buffer).
+ *
+ * Amount column: [-]digits[.digits], may be surrounded by spaces or double quotes.
+ * Quoted fields with delimiter inside are not supported.
+ * Words are the same as of NumberToWordsConverter.amountToWords.
+ *
+ * usage: AmountFileConverter input output lang column [delimiter] [--header]
+ */
+public class AmountFileConverter {
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_WORDS_BYTES = 1024;
+    private static final byte[] HEADER_WORDS = "words".getBytes(StandardCharsets.US_ASCII);
+    private static final String CENTS_SEPARATOR = " .";
+
+    private final Utf8WordsWriter writer;
+    private final DecimalWordsWriter<Utf8Sink> bigWriter;
+    private final int column;
+    private final byte delimiter;
+    private final boolean header;
+    private final int bufferSize;
+
+    /**
+     * @param column    amount column index (0 based)
+     * @param delimiter column delimiter (ascii char)
+     * @param header    first line is header (will be appended with 'words')
+     */
+    public AmountFileConverter(String lang, int column, char delimiter, boolean header) {
+        this(lang, column, delimiter, header, DEFAULT_BUFFER_SIZE);
+    }
+
+    AmountFileConverter(String lang, int column, char delimiter, boolean header, int bufferSize) {
+        if (column < 0)
+            throw new IllegalArgumentException("Column index must not be negative");
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r')
+            throw new IllegalArgumentException("Invalid delimiter '" + delimiter + "'");
+        this.writer = NumberToWordsConverter.utf8Writer(lang);
+        this.bigWriter = NumberToWordsConverter.utf8DecimalWriter(lang);
+        this.column = column;
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @return count of converted rows (without header)
+     */
+    public long convert(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, READ);
+             FileChannel out = FileChannel.open(output, CREATE, TRUNCATE_EXISTING, WRITE)) {
+            return convert(in, out);
+        }
+    }
+
+    public long convert(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        byte[] data = new byte[bufferSize];
+        ByteBuffer outBuf = ByteBuffer.allocate(bufferSize + MAX_WORDS_BYTES);
+        Utf8Sink sink = new Utf8Sink(outBuf);
+        int pos = 0; // start of unprocessed data
+        int limit = 0; // end of data
+        boolean eof = false;
+        long lineNo = 0;
+        long rows = 0;
+
+        while (true) {
+            int nl = indexOf(data, (byte) '\n', pos, limit);
+            if (nl < 0) {
+                if (eof) {
+                    if (pos < limit) {
+                        rows += processLine(data, pos, limit, false, ++lineNo, outBuf, sink, out);
+                    }
+                    break;
+                }
+                // move unprocessed tail to beginning, grow if line does not fit
+                System.arraycopy(data, pos, data, 0, limit - pos);
+                limit -= pos;
+                pos = 0;
+                if (limit == data.length)
+                    data = Arrays.copyOf(data, data.length * 2);
+                int cnt = in.read(ByteBuffer.wrap(data, limit, data.length - limit));
+                if (cnt < 0)
+                    eof = true;
+                else
+                    limit += cnt;
+                continue;
+            }
+            rows += processLine(data, pos, nl, true, ++lineNo, outBuf, sink, out);
+            pos = nl + 1;
+        }
+        flush(outBuf, out);
+        return rows;
+    }
+
+    // returns 1 if row with amount was converted
+    private int processLine(byte[] data, int start, int end, boolean newline, long lineNo, ByteBuffer outBuf, Utf8Sink sink, WritableByteChannel out) throws IOException {
+        int contentEnd = end;
+        boolean cr = contentEnd > start && data[contentEnd - 1] == '\r';
+        if (cr)
+            contentEnd--;
+
+        if (outBuf.remaining() < contentEnd - start + MAX_WORDS_BYTES)
+            flush(outBuf, out);
+        if (outBuf.remaining() < contentEnd - start + MAX_WORDS_BYTES) {
+            ByteBuffer big = ByteBuffer.allocate(contentEnd - start + MAX_WORDS_BYTES);
+            int res = processLine(data, start, end, newline, lineNo, big, new Utf8Sink(big), out);
+            flush(big, out);
+            return res;
+        }
+
+        int res = 0;
+        outBuf.put(data, start, contentEnd - start);
+        if (contentEnd > start) {
+            outBuf.put(delimiter);
+            if (header && lineNo == 1) {
+                outBuf.put(HEADER_WORDS);
+            } else {
+                writeAmountWords(data, start, contentEnd, lineNo, sink);
+                res = 1;
+            }
+        }
+        if (cr)
+            outBuf.put((byte) '\r');
+        if (newline)
+            outBuf.put((byte) '\n');
+        return res;
+    }
+
+    private void writeAmountWords(byte[] data, int start, int end, long lineNo, Utf8Sink sink) {
+        // find column
+        int colStart = start;
+        for (int col = 0; col < column; col++) {
+            int idx = indexOf(data, delimiter, colStart, end);
+            if (idx < 0)
+                throw new IllegalArgumentException("Line " + lineNo + " has no column " + column);
+            colStart = idx + 1;
+        }
+        int colEnd = indexOf(data, delimiter, colStart, end);
+        if (colEnd < 0)
+            colEnd = end;
+
+        // trim spaces and quotes
+        while (colStart < colEnd && (data[colStart] == ' ' || data[colStart] == '"'))
+            colStart++;
+        while (colEnd > colStart && (data[colEnd - 1] == ' ' || data[colEnd - 1] == '"'))
+            colEnd--;
+
+        int i = colStart;
+        boolean negative = false;
+        if (i < colEnd && (data[i] == '-' || data[i] == '+')) {
+            negative = data[i] == '-';
+            i++;
+        }
+        int digitsStart = i;
+        long whole = 0;
+        for (; i < colEnd && data[i] != '.'; i++) {
+            int d = data[i] - '0';
+            if (d < 0 || d > 9)
+                throw invalidAmount(data, colStart, colEnd, lineNo);
+            if (i - digitsStart < 18) // bigger - see below
+                whole = whole * 10 + d;
+        }
+        int wholeDigits = i - digitsStart;
+        // cents - first 2 fraction digits, rounded half up by 3rd
+        int cents = 0;
+        int fracDigits = 0;
+        if (i < colEnd) {
+            i++; // '.'
+            for (; i < colEnd; i++, fracDigits++) {
+                int d = data[i] - '0';
+                if (d < 0 || d > 9)
+                    throw invalidAmount(data, colStart, colEnd, lineNo);
+                if (fracDigits < 2)
+                    cents = cents * 10 + d;
+                else if (fracDigits == 2 && d >= 5)
+                    cents++;
+            }
+        }
+        if (wholeDigits + fracDigits == 0)
+            throw invalidAmount(data, colStart, colEnd, lineNo);
+        if (fracDigits == 1)
+            cents *= 10;
+
+        sink.reset(true);
+        if (wholeDigits <= 18) {
+            writer.writeUtf8(negative ? -whole : whole, sink);
+        } else { // rare, beyond long
+            BigDecimal big = new BigDecimal(new String(data, digitsStart, wholeDigits, StandardCharsets.US_ASCII));
+            bigWriter.write(negative ? big.negate() : big, sink);
+        }
+        sink.ascii(CENTS_SEPARATOR);
+        if (negative && cents != 0)
+            sink.ascii('-');
+        if (cents >= 100)
+            sink.ascii((char) ('0' + cents / 100));
+        if (cents >= 10)
+            sink.ascii((char) ('0' + cents / 10 % 10));
+        sink.ascii((char) ('0' + cents % 10));
+    }
+
+    private static IllegalArgumentException invalidAmount(byte[] data, int start, int end, long lineNo) {
+        return new IllegalArgumentException("Invalid amount '" + new String(data, start, end - start, StandardCharsets.UTF_8) + "' in line " + lineNo);
+    }
+
+    private static int indexOf(byte[] data, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (data[i] == b)
+                return i;
+        }
+        return -1;
+    }
+
+    // (Buffer) casts - on java 8 ByteBuffer has no covariant flip()/clear() (NoSuchMethodError when built on 9+)
+    private static void flush(ByteBuffer buf, WritableByteChannel out) throws IOException {
+        ((Buffer) buf).flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        ((Buffer) buf).clear();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("usage: AmountFileConverter input output lang column [delimiter] [--header]");
+            System.exit(1);
+        }
+        char delimiter = args.length > 4 && !"--header".equals(args[4]) ? args[4].charAt(0) : ',';
+        boolean header = "--header".equals(args[args.length - 1]);
+        AmountFileConverter converter = new AmountFileConverter(args[2], Integer.parseInt(args[3]), delimiter, header);
+        long start = System.nanoTime();
+        long rows = converter.convert(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println("Converted " + rows + " rows in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Augustus, 2026.10.19
+ * convert many numbers (amounts) at once
+ *
+ * Small inputs (below PARALLEL_THRESHOLD) are converted sequentially,
+ * bigger ones are split into chunks and converted in ForkJoinPool.
+ * One StringBuilder is reused for all numbers of a chunk.
+ */
+public class BulkNumberToWordsConverter {
+    static final int PARALLEL_THRESHOLD = 8192;
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    /**
+     * Receives converted words.
+     * In parallel mode can be called from several threads at once (with different indexes).
+     * 'words' is valid only during call (builder is reused for the next number).
+     */
+    @FunctionalInterface
+    public interface WordsSink {
+        void accept(int index, CharSequence words);
+    }
+
+    @FunctionalInterface
+    private interface ItemAppender {
+        void append(int index, StringBuilder sb);
+    }
+
+    public static String[] numbersToWords(long[] numbers, String lang) {
+        return numbersToWords(numbers, lang, ForkJoinPool.commonPool());
+    }
+
+    public static String[] numbersToWords(long[] numbers, String lang, ForkJoinPool pool) {
+        String[] result = new String[numbers.length];
+        numbersToWords(numbers, lang, pool, (i, words) -> result[i] = words.toString());
+        return result;
+    }
+
+    public static String[] numbersToWords(LongStream numbers, String lang) {
+        return numbersToWords(numbers.toArray(), lang);
+    }
+
+    public static void numbersToWords(long[] numbers, String lang, WordsSink sink) {
+        numbersToWords(numbers, lang, ForkJoinPool.commonPool(), sink);
+    }
+
+    public static void numbersToWords(long[] numbers, String lang, ForkJoinPool pool, WordsSink sink) {
+        WordsAppender appender = NumberToWordsConverter.appender(lang);
+        convert(numbers.length, (i, sb) -> appender.appendWords(numbers[i], sb), pool, sink);
+    }
+
+    public static String[] amountsToWords(BigDecimal[] amounts, String lang) {
+        return amountsToWords(amounts, lang, ForkJoinPool.commonPool());
+    }
+
+    public static String[] amountsToWords(BigDecimal[] amounts, String lang, ForkJoinPool pool) {
+        String[] result = new String[amounts.length];
+        amountsToWords(amounts, lang, pool, (i, words) -> result[i] = words.toString());
+        return result;
+    }
+
+    public static String[] amountsToWords(Stream<BigDecimal> amounts, String lang) {
+        return amountsToWords(amounts.toArray(BigDecimal[]::new), lang);
+    }
+
+    public static void amountsToWords(BigDecimal[] amounts, String lang, WordsSink sink) {
+        amountsToWords(amounts, lang, ForkJoinPool.commonPool(), sink);
+    }
+
+    public static void amountsToWords(BigDecimal[] amounts, String lang, ForkJoinPool pool, WordsSink sink) {
+        WordsAppender appender = NumberToWordsConverter.appender(lang);
+        DecimalWordsWriter<StringBuilder> bigAppender = NumberToWordsConverter.decimalAppender(lang);
+        convert(amounts.length, (i, sb) -> NumberToWordsConverter.appendAmount(amounts[i], appender, bigAppender, sb), pool, sink);
+    }
+
+    private static void convert(int size, ItemAppender appender, ForkJoinPool pool, WordsSink sink) {
+        int parallelism = pool.getParallelism();
+        if (size < PARALLEL_THRESHOLD || parallelism <= 1) {
+            convertRange(0, size, appender, sink);
+            return;
+        }
+        // few chunks per worker for better balancing
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4));
+        pool.invoke(new ConvertTask(0, size, chunkSize, appender, sink));
+    }
+
+    private static void convertRange(int from, int to, ItemAppender appender, WordsSink sink) {
+        StringBuilder sb = new StringBuilder(128);
+        for (int i = from; i < to; i++) {
+            sb.setLength(0);
+            appender.append(i, sb);
+            sink.accept(i, sb);
+        }
+    }
+
+    private static class ConvertTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final ItemAppender appender;
+        private final WordsSink sink;
+
+        ConvertTask(int from, int to, int chunkSize, ItemAppender appender, WordsSink sink) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.appender = appender;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                convertRange(from, to, appender, sink);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new ConvertTask(from, mid, chunkSize, appender, sink),
+                new ConvertTask(mid, to, chunkSize, appender, sink));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Augustus, 2026.10.19
+ * number to words converter with bounded cache of results (for one language).
+ * Thread safe, can be shared between threads.
+ *
+ * Cache is set-associative (8 entries in set). Lookups are lock-free,
+ * on a full set the least frequently used entry is evicted (when all
+ * entries of the set are used more than once, their frequencies are
+ * halved - aging). Keeps hot values of skewed (Zipf like) distributions
+ * while one-time values come and go.
+ */
+public class CachedNumberToWordsConverter {
+    private static final int WAYS = 8;
+    private static final int MAX_FREQ = 15;
+
+    private final String lang;
+    private final WordsAppender appender;
+    private final DecimalWordsWriter<StringBuilder> bigAppender;
+    private final AtomicReferenceArray<Entry> table;
+    private final int sets;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Entry {
+        final long num;     // key for numberToWords
+        final Object obj;   // key for amountToWords (null for numbers)
+        final String value;
+        int freq = 1;       // approximate (racy) usage counter
+
+        Entry(long num, Object obj, String value) {
+            this.num = num;
+            this.obj = obj;
+            this.value = value;
+        }
+    }
+
+    public static class CacheStats {
+        public final long hits;
+        public final long misses;
+        public final long evictions;
+
+        CacheStats(long hits, long misses, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+        }
+
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hits + " misses=" + misses + " evictions=" + evictions;
+        }
+    }
+
+    /**
+     * @param maxSize max count of cached values (rounded up to multiple of 8)
+     */
+    public CachedNumberToWordsConverter(String lang, int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("maxSize must be positive");
+        this.lang = lang;
+        this.appender = NumberToWordsConverter.appender(lang);
+        this.bigAppender = NumberToWordsConverter.decimalAppender(lang);
+        this.sets = (maxSize + WAYS - 1) / WAYS;
+        this.table = new AtomicReferenceArray<>(sets * WAYS);
+    }
+
+    public String getLang() {
+        return lang;
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+
+    public String numberToWords(long number) {
+        int base = setStart(mix(number));
+        for (int i = base; i < base + WAYS; i++) {
+            Entry e = table.get(i);
+            if (e != null && e.obj == null && e.num == number)
+                return hit(e);
+        }
+        misses.increment();
+        StringBuilder sb = new StringBuilder(64);
+        appender.appendWords(number, sb);
+        return put(base, new Entry(number, null, sb.toString()));
+    }
+
+    public String amountToWords(BigDecimal amount) {
+        int base = setStart(mix(amount.hashCode()));
+        for (int i = base; i < base + WAYS; i++) {
+            Entry e = table.get(i);
+            if (e != null && amount.equals(e.obj))
+                return hit(e);
+        }
+        misses.increment();
+        StringBuilder sb = new StringBuilder(64);
+        NumberToWordsConverter.appendAmount(amount, appender, bigAppender, sb);
+        return put(base, new Entry(0, amount, sb.toString()));
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, null);
+        }
+    }
+
+    private String hit(Entry e) {
+        if (e.freq < MAX_FREQ)
+            e.freq++;
+        hits.increment();
+        return e.value;
+    }
+
+    private String put(int base, Entry entry) {
+        int victimIdx = -1;
+        Entry victim = null;
+        for (int i = base; i < base + WAYS; i++) {
+            Entry e = table.get(i);
+            if (e == null) {
+                if (table.compareAndSet(i, null, entry))
+                    return entry.value;
+                continue;
+            }
+            if (victim == null || e.freq < victim.freq) {
+                victim = e;
+                victimIdx = i;
+            }
+        }
+        if (victim == null)
+            return entry.value;
+        if (victim.freq > 1) { // all entries are warm - age them
+            for (int i = base; i < base + WAYS; i++) {
+                Entry e = table.get(i);
+                if (e != null)
+                    e.freq >>= 1;
+            }
+        }
+        // if lost race, just leave value uncached
+        if (table.compareAndSet(victimIdx, victim, entry))
+            evictions.increment();
+        return entry.value;
+    }
+
+    private int setStart(long hash) {
+        return (int) ((hash >>> 1) % sets) * WAYS;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
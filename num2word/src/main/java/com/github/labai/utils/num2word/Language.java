@@ -0,0 +1,68 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import com.github.labai.utils.num2word.impl.NumberWords;
+import com.github.labai.utils.num2word.impl.Utf8Sink;
+import com.github.labai.utils.num2word.impl.WordsParser;
+
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Augustus, 2026.10.19
+ * functions of language (generated impl.NumToWordsXx class).
+ * Instances are in generated Languages - one per grammar file.
+ */
+final class Language {
+    final LongFunction<String> words;
+    final WordsAppender appender;
+    final Utf8WordsWriter utf8Writer;
+    final LongFunction<NumberWords> lazyWords;
+    final DecimalWordsWriter<StringBuilder> decimalAppender;
+    final DecimalWordsWriter<Utf8Sink> utf8DecimalWriter;
+    final TripletsAppender tripletsAppender;
+    final Supplier<WordsParser> parser;
+
+    Language(LongFunction<String> words, WordsAppender appender, Utf8WordsWriter utf8Writer, LongFunction<NumberWords> lazyWords,
+            DecimalWordsWriter<StringBuilder> decimalAppender, DecimalWordsWriter<Utf8Sink> utf8DecimalWriter, TripletsAppender tripletsAppender,
+            Supplier<WordsParser> parser) {
+        this.words = words;
+        this.appender = appender;
+        this.utf8Writer = utf8Writer;
+        this.lazyWords = lazyWords;
+        this.decimalAppender = decimalAppender;
+        this.utf8DecimalWriter = utf8DecimalWriter;
+        this.tripletsAppender = tripletsAppender;
+        this.parser = parser;
+    }
+
+    // throws IllegalArgumentException for language without grammar
+    static Language of(String lang) {
+        Language language = lang == null ? null : Languages.get(lang);
+        if (language == null)
+            throw new IllegalArgumentException("Invalid language code '" + lang + "'");
+        return language;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import com.github.labai.utils.num2word.BulkNumberToWordsConverter.WordsSink;
+import com.github.labai.utils.num2word.impl.Triplets;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Augustus, 2026.10.19
+ * convert number (amount) to words in several languages at once,
+ * e.g. invoice total in Lithuanian, English and Russian.
+ *
+ * Number is decomposed to triplets (and cents are calculated) once,
+ * then words of each language are rendered from the same decomposition.
+ * Thread safe.
+ */
+public class MultiLangNumberToWordsConverter {
+    private final List<String> langs;
+    private final TripletsAppender[] appenders;
+
+    public MultiLangNumberToWordsConverter(String... langs) {
+        if (langs.length == 0)
+            throw new IllegalArgumentException("No languages");
+        this.langs = Collections.unmodifiableList(Arrays.asList(langs.clone()));
+        this.appenders = new TripletsAppender[langs.length];
+        for (int i = 0; i < langs.length; i++) {
+            appenders[i] = NumberToWordsConverter.tripletsAppender(langs[i]);
+        }
+    }
+
+    public List<String> getLangs() {
+        return langs;
+    }
+
+    // words in order of languages
+    public String[] numberToWords(long number) {
+        String[] result = new String[appenders.length];
+        numberToWords(number, (i, words) -> result[i] = words.toString());
+        return result;
+    }
+
+    // sink receives language index and words
+    public void numberToWords(long number, WordsSink sink) {
+        Triplets triplets = Triplets.of(number);
+        StringBuilder sb = new StringBuilder(64);
+        for (int i = 0; i < appenders.length; i++) {
+            sb.setLength(0);
+            appenders[i].appendWords(triplets, sb);
+            sink.accept(i, sb);
+        }
+    }
+
+    // same as NumberToWordsConverter.amountToWords, in order of languages
+    public String[] amountToWords(BigDecimal amount) {
+        String[] result = new String[appenders.length];
+        amountToWords(amount, (i, words) -> result[i] = words.toString());
+        return result;
+    }
+
+    // sink receives language index and words
+    public void amountToWords(BigDecimal amount, WordsSink sink) {
+        Triplets triplets = Triplets.of(amount);
+        String cents = NumberToWordsConverter.cents(amount);
+        StringBuilder sb = new StringBuilder(64);
+        for (int i = 0; i < appenders.length; i++) {
+            sb.setLength(0);
+            appenders[i].appendWords(triplets, sb);
+            NumberToWordsConverter.appendCents(sb, 0, cents);
+            sink.accept(i, sb);
+        }
+    }
+
+    // all languages, separated by separator - e.g. 'Šimtas .00 / One hundred .00'
+    public String amountToWords(BigDecimal amount, String separator) {
+        StringBuilder res = new StringBuilder(64 * appenders.length);
+        amountToWords(amount, (i, words) -> {
+            if (i > 0)
+                res.append(separator);
+            res.append(words);
+        });
+        return res.toString();
+    }
+}
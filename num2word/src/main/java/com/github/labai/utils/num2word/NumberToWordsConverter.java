@@ -23,14 +23,13 @@ SOFTWARE.
 */
 package com.github.labai.utils.num2word;
 
-import com.github.labai.utils.num2word.impl.NumToWordsEn;
-import com.github.labai.utils.num2word.impl.NumToWordsEt;
-import com.github.labai.utils.num2word.impl.NumToWordsLt;
-import com.github.labai.utils.num2word.impl.NumToWordsLv;
-import com.github.labai.utils.num2word.impl.NumToWordsRu;
+import com.github.labai.utils.num2word.impl.NumberWords;
+import com.github.labai.utils.num2word.impl.Utf8Sink;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.function.LongFunction;
 
 /**
  * Augustus, 2023.10.29
@@ -38,33 +37,91 @@ import java.math.RoundingMode;
  * 123 -> one hundred twenty three
  */
 public class NumberToWordsConverter {
+    private static final int LONG_DIGITS = 18; // any 18 digits number fits in long
 
     public static String numberToWords(long longNum, String lang) {
-        switch (lang) {
-            case "en":
-                return NumToWordsEn.numberToWords(longNum);
-            case "lt":
-                return NumToWordsLt.numberToWords(longNum);
-            case "lv":
-                return NumToWordsLv.numberToWords(longNum);
-            case "et":
-                return NumToWordsEt.numberToWords(longNum);
-            case "ru":
-                return NumToWordsRu.numberToWords(longNum);
-            default:
-                throw new IllegalArgumentException("Invalid language code '" + lang + "'");
-        }
+        return Language.of(lang).words.apply(longNum);
+    }
+
+    // words are not materialized - for appending to bigger text (NumberWords.appendTo, writeTo)
+    public static NumberWords numberToWordsLazy(long number, String lang) {
+        return lazyWords(lang).apply(number);
+    }
+
+    // number of any size, up to the biggest scale word of language (10^33 - 1 for most)
+    public static String numberToWords(BigInteger number, String lang) {
+        return numberToWords(new BigDecimal(number), lang);
+    }
+
+    // 1.05 -> one point zero five (fraction digits one by one)
+    public static String numberToWords(BigDecimal number, String lang) {
+        StringBuilder sb = new StringBuilder(128);
+        decimalAppender(lang).write(number, sb);
+        return sb.toString();
     }
 
     public static String amountToWords(BigDecimal amount, String lang) {
-        String cents = amount
+        StringBuilder sb = new StringBuilder(64);
+        appendAmount(amount, appender(lang), decimalAppender(lang), sb);
+        return sb.toString();
+    }
+
+    static WordsAppender appender(String lang) {
+        return Language.of(lang).appender;
+    }
+
+    static Utf8WordsWriter utf8Writer(String lang) {
+        return Language.of(lang).utf8Writer;
+    }
+
+    static LongFunction<NumberWords> lazyWords(String lang) {
+        return Language.of(lang).lazyWords;
+    }
+
+    static DecimalWordsWriter<StringBuilder> decimalAppender(String lang) {
+        return Language.of(lang).decimalAppender;
+    }
+
+    static DecimalWordsWriter<Utf8Sink> utf8DecimalWriter(String lang) {
+        return Language.of(lang).utf8DecimalWriter;
+    }
+
+    static TripletsAppender tripletsAppender(String lang) {
+        return Language.of(lang).tripletsAppender;
+    }
+
+    // integer part fits in long - fast path
+    static boolean isLong(BigDecimal amount) {
+        return amount.precision() - amount.scale() <= LONG_DIGITS;
+    }
+
+    static BigDecimal integerPart(BigDecimal amount) {
+        return amount.setScale(0, RoundingMode.DOWN);
+    }
+
+    static String cents(BigDecimal amount) {
+        return amount
             .subtract(amount.setScale(0, RoundingMode.DOWN))
             .multiply(new BigDecimal(100))
             .setScale(0, RoundingMode.HALF_UP)
             .toString();
-        String words = numberToWords(amount.longValue(), lang);
-        if (!words.isEmpty())
-            words = words.substring(0, 1).toUpperCase() + words.substring(1);
-        return words + " ." + cents;
+    }
+
+    static void appendAmount(BigDecimal amount, WordsAppender appender, DecimalWordsWriter<StringBuilder> bigAppender, StringBuilder sb) {
+        String cents = cents(amount);
+        int start = sb.length();
+        if (isLong(amount)) {
+            appender.appendWords(amount.longValue(), sb);
+        } else {
+            bigAppender.write(integerPart(amount), sb);
+        }
+        appendCents(sb, start, cents);
+    }
+
+    // capitalizes words (from start) and appends cents
+    static void appendCents(StringBuilder sb, int start, String cents) {
+        if (sb.length() > start)
+            sb.setCharAt(start, Character.toUpperCase(sb.charAt(start)));
+        sb.append(" .").append(cents);
     }
 }
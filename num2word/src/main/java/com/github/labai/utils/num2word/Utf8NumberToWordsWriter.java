@@ -0,0 +1,84 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import com.github.labai.utils.num2word.impl.Utf8Sink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+/**
+ * Augustus, 2026.10.19
+ * writes number (amount) in words as UTF-8 bytes directly to
+ * ByteBuffer or OutputStream - without creating String and encoding it.
+ * Words of languages are kept pre-encoded.
+ *
+ * Not thread safe (reuses internal buffer), create one per thread.
+ */
+public class Utf8NumberToWordsWriter {
+    private static final String CENTS_SEPARATOR = " .";
+
+    private final Utf8WordsWriter writer;
+    private final DecimalWordsWriter<Utf8Sink> bigWriter;
+    private final Utf8Sink streamSink = new Utf8Sink();
+
+    public Utf8NumberToWordsWriter(String lang) {
+        this.writer = NumberToWordsConverter.utf8Writer(lang);
+        this.bigWriter = NumberToWordsConverter.utf8DecimalWriter(lang);
+    }
+
+    // throws BufferOverflowException if there is not enough space in buffer
+    public void writeNumber(long number, ByteBuffer buf) {
+        writer.writeUtf8(number, new Utf8Sink(buf).reset(false));
+    }
+
+    public void writeNumber(long number, OutputStream out) throws IOException {
+        writer.writeUtf8(number, streamSink.reset(false));
+        streamSink.writeTo(out);
+    }
+
+    // same as NumberToWordsConverter.amountToWords
+    // throws BufferOverflowException if there is not enough space in buffer
+    public void writeAmount(BigDecimal amount, ByteBuffer buf) {
+        writeAmount(amount, new Utf8Sink(buf));
+    }
+
+    public void writeAmount(BigDecimal amount, OutputStream out) throws IOException {
+        writeAmount(amount, streamSink);
+        streamSink.writeTo(out);
+    }
+
+    private void writeAmount(BigDecimal amount, Utf8Sink sink) {
+        sink.reset(true);
+        if (NumberToWordsConverter.isLong(amount)) {
+            writer.writeUtf8(amount.longValue(), sink);
+        } else {
+            bigWriter.write(NumberToWordsConverter.integerPart(amount), sink);
+        }
+        sink.ascii(CENTS_SEPARATOR);
+        sink.ascii(NumberToWordsConverter.cents(amount));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word;
+
+import com.github.labai.utils.num2word.impl.WordsParser;
+
+import java.math.BigDecimal;
+
+/**
+ * Augustus, 2026.10.19
+ * convert words to number (inverse of NumberToWordsConverter)
+ * one hundred twenty three -> 123
+ *
+ * throws IllegalArgumentException if words can't be parsed
+ */
+public class WordsToNumberConverter {
+
+    public static long wordsToNumber(CharSequence words, String lang) {
+        return parser(lang).parse(words);
+    }
+
+    // parses result of NumberToWordsConverter.amountToWords, e.g. "Šimtas dvidešimt trys .45"
+    public static BigDecimal wordsToAmount(CharSequence words, String lang) {
+        int dot = -1;
+        for (int i = words.length() - 1; i >= 0; i--) {
+            if (words.charAt(i) == '.') {
+                dot = i;
+                break;
+            }
+        }
+        if (dot < 0)
+            throw new IllegalArgumentException("No cents in '" + words + "'");
+        long number = parser(lang).parse(words, 0, dot);
+
+        int i = dot + 1;
+        boolean negative = i < words.length() && words.charAt(i) == '-';
+        if (negative)
+            i++;
+        if (i == words.length() || words.length() - i > 3)
+            throw new IllegalArgumentException("Invalid cents in '" + words + "'");
+        long cents = 0;
+        for (; i < words.length(); i++) {
+            int d = words.charAt(i) - '0';
+            if (d < 0 || d > 9)
+                throw new IllegalArgumentException("Invalid cents in '" + words + "'");
+            cents = cents * 10 + d;
+        }
+        // number * 100 + cents doesn't fit to long for numbers near Long.MAX_VALUE
+        return BigDecimal.valueOf(number).add(BigDecimal.valueOf(negative ? -cents : cents, 2));
+    }
+
+    static WordsParser parser(String lang) {
+        return Language.of(lang).parser.get();
+    }
+}
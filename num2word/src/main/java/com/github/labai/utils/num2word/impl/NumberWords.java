@@ -0,0 +1,147 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Augustus, 2026.10.19
+ * number in words, not materialized - keeps just the number and
+ * the language converter (with shared word fragments).
+ *
+ * appendTo/writeTo copy fragments directly to target,
+ * toString, charAt, subSequence materialize (and cache) String.
+ * Note: StringBuilder.append(CharSequence) uses charAt - use appendTo instead.
+ */
+public final class NumberWords implements CharSequence {
+    private final TableConverter converter;
+    private final long number;
+    private String text;
+    private int length = -1;
+
+    NumberWords(TableConverter converter, long number) {
+        this.converter = converter;
+        this.number = number;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public StringBuilder appendTo(StringBuilder sb) {
+        if (text != null)
+            return sb.append(text);
+        converter.render(number, new Utils.StrSink(sb));
+        return sb;
+    }
+
+    public void writeTo(Writer out) throws IOException {
+        if (text != null) {
+            out.write(text);
+            return;
+        }
+        try {
+            converter.render(number, new WriterSink(out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public int length() {
+        if (length < 0) {
+            if (text != null) {
+                length = text.length();
+            } else {
+                LengthSink sink = new LengthSink();
+                converter.render(number, sink);
+                length = sink.length;
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        if (text == null)
+            text = converter.numberToWords(number);
+        return text;
+    }
+
+    private static class WriterSink implements WordSink {
+        private final Writer out;
+        private boolean first = true;
+
+        WriterSink(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void word(Word word) {
+            try {
+                if (!first)
+                    out.write(' ');
+                first = false;
+                out.write(word.text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void suffix(Word word) {
+            try {
+                out.write(word.text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static class LengthSink implements WordSink {
+        private int length;
+
+        @Override
+        public void word(Word word) {
+            length += length > 0 ? word.text.length() + 1 : word.text.length();
+        }
+
+        @Override
+        public void suffix(Word word) {
+            length += word.text.length();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Augustus, 2026.10.19
+ * number to words converter, driven by tables generated at build time
+ * from language grammar (src/main/grammar/*.grammar).
+ *
+ * Words of every triplet value (0..999) and scale word form for it
+ * are precomputed, so conversion is just a few table lookups per triplet.
+ *
+ * Words are coded as indexes to vocabulary (char), with GLUE flag
+ * for fragments glued to previous word (e.g. Estonian 'kaks' + 'sada').
+ *
+ * Big numbers (BigDecimal) are converted from decimal digits string,
+ * three digits at a time, so cost is linear in count of digits.
+ */
+final class TableConverter {
+    static final char GLUE = 0x8000;
+
+    private static final long[] POW1000 = {
+        1L,
+        1_000L,
+        1_000_000L,
+        1_000_000_000L,
+        1_000_000_000_000L,
+        1_000_000_000_000_000L,
+        1_000_000_000_000_000_000L
+    };
+
+    private final Word[] vocab;
+    private final Word zero;
+    private final Word minus;
+    private final Word point;
+    private final char[][][] triplets; // [variant][value] - words of triplet
+    private final char[][][] scales;   // [pos][form] - scale words
+    private final byte[] variants;     // [pos] - variant of triplet words before scale (gender etc.)
+    private final byte[] forms;        // [value] - form of scale word (plural rules)
+    private final String[] parserWords;
+    private final int[] parserTokens;  // kind, value pairs
+    private volatile WordsParser parser;
+
+    // packed tables - sequences of (length, codes...), see GrammarCompiler
+    TableConverter(String[] vocab, int zero, int minus, int point, String[] triplets, String scales, int formCount,
+                   String variants, String forms, String[] parserWords, int[] parserTokens) {
+        this.vocab = new Word[vocab.length];
+        for (int i = 0; i < vocab.length; i++) {
+            this.vocab[i] = Word.of(vocab[i]);
+        }
+        this.zero = this.vocab[zero];
+        this.minus = this.vocab[minus];
+        this.point = this.vocab[point];
+        this.triplets = new char[triplets.length][][];
+        for (int i = 0; i < triplets.length; i++) {
+            this.triplets[i] = unpack(triplets[i], 1000);
+        }
+        char[][] scaleForms = unpack(scales, variants.length() * formCount);
+        this.scales = new char[variants.length()][formCount][];
+        for (int pos = 0; pos < variants.length(); pos++) {
+            for (int form = 0; form < formCount; form++) {
+                this.scales[pos][form] = scaleForms[pos * formCount + form];
+            }
+        }
+        this.variants = toBytes(variants);
+        this.forms = toBytes(forms);
+        this.parserWords = parserWords;
+        this.parserTokens = parserTokens;
+    }
+
+    String numberToWords(long number) {
+        StringBuilder sb = new StringBuilder(64);
+        render(number, new Utils.StrSink(sb));
+        return sb.toString();
+    }
+
+    void render(long number, WordSink out) {
+        if (number == 0) {
+            out.word(zero);
+            return;
+        }
+
+        if (number < 0) {
+            out.word(minus);
+        } else {
+            number = -number; // work with negative, as Long.MIN_VALUE has no positive pair
+        }
+
+        int pos = POW1000.length - 1;
+        while (number > -POW1000[pos]) {
+            pos--;
+        }
+        checkScale(pos);
+
+        for (; pos >= 0; pos--) {
+            writeTriplet(pos, (int) -(number / POW1000[pos] % 1000), out);
+        }
+    }
+
+    void render(Triplets number, WordSink out) {
+        if (number.top < 0) {
+            out.word(zero);
+            return;
+        }
+        if (number.negative)
+            out.word(minus);
+        checkScale(number.top);
+        for (int pos = number.top; pos >= 0; pos--) {
+            writeTriplet(pos, number.values[pos], out);
+        }
+    }
+
+    String numberToWords(BigDecimal number) {
+        StringBuilder sb = new StringBuilder(128);
+        render(number, new Utils.StrSink(sb));
+        return sb.toString();
+    }
+
+    // integer part in words, then fraction digits one by one ('one point zero five')
+    void render(BigDecimal number, WordSink out) {
+        if (number.scale() < 0)
+            number = number.setScale(0, RoundingMode.UNNECESSARY);
+        if (number.signum() < 0)
+            out.word(minus);
+        String digits = number.unscaledValue().abs().toString();
+        int intDigits = digits.length() - number.scale();
+        if (intDigits > 0) {
+            renderDigits(digits, 0, intDigits, out);
+        } else {
+            out.word(zero);
+        }
+        if (number.scale() > 0) {
+            out.word(point);
+            for (int i = intDigits; i < digits.length(); i++) {
+                int digit = i < 0 ? 0 : digits.charAt(i) - '0';
+                if (digit == 0) {
+                    out.word(zero);
+                } else {
+                    write(triplets[0][digit], out);
+                }
+            }
+        }
+    }
+
+    // integer from decimal digits (without sign)
+    private void renderDigits(CharSequence digits, int start, int end, WordSink out) {
+        while (start < end && digits.charAt(start) == '0') {
+            start++;
+        }
+        if (start == end) {
+            out.word(zero);
+            return;
+        }
+        int pos = (end - start - 1) / 3;
+        checkScale(pos);
+        int i = start;
+        int len = end - start - pos * 3; // first triplet may be shorter
+        for (; pos >= 0; pos--) {
+            int value = 0;
+            for (int triEnd = i + len; i < triEnd; i++) {
+                value = value * 10 + digits.charAt(i) - '0';
+            }
+            len = 3;
+            writeTriplet(pos, value, out);
+        }
+    }
+
+    private void writeTriplet(int pos, int value, WordSink out) {
+        if (value == 0)
+            return;
+        write(triplets[variants[pos]][value], out);
+        if (pos > 0) {
+            write(scales[pos][forms[value]], out);
+        }
+    }
+
+    private void checkScale(int pos) {
+        if (pos >= scales.length)
+            throw new IllegalArgumentException("Number is too big, scale 1000^" + pos + " is not defined for language");
+    }
+
+    WordsParser parser() {
+        WordsParser p = parser;
+        if (p == null) {
+            WordsParser.Builder builder = new WordsParser.Builder();
+            for (int i = 0; i < parserWords.length; i++) {
+                builder.add(parserWords[i], parserTokens[2 * i], parserTokens[2 * i + 1]);
+            }
+            p = builder.build();
+            parser = p;
+        }
+        return p;
+    }
+
+    private void write(char[] codes, WordSink out) {
+        for (char code : codes) {
+            if ((code & GLUE) != 0) {
+                out.suffix(vocab[code & ~GLUE]);
+            } else {
+                out.word(vocab[code]);
+            }
+        }
+    }
+
+    private static char[][] unpack(String packed, int count) {
+        char[][] res = new char[count][];
+        int p = 0;
+        for (int i = 0; i < count; i++) {
+            int len = packed.charAt(p++);
+            res[i] = packed.substring(p, p + len).toCharArray();
+            p += len;
+        }
+        if (p != packed.length())
+            throw new IllegalStateException("Invalid packed table (" + p + " of " + packed.length() + ")");
+        return res;
+    }
+
+    private static byte[] toBytes(String packed) {
+        byte[] res = new byte[packed.length()];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = (byte) packed.charAt(i);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Augustus, 2026.10.19
+ * number decomposed to triplets (thousand groups) - once,
+ * to render it in several languages.
+ */
+public final class Triplets {
+    final boolean negative;
+    final int[] values; // [pos] - value of 1000^pos triplet (0..999)
+    final int top;      // highest non-zero triplet, -1 for zero
+
+    private Triplets(boolean negative, int[] values) {
+        int top = values.length - 1;
+        while (top >= 0 && values[top] == 0) {
+            top--;
+        }
+        this.negative = negative && top >= 0;
+        this.values = values;
+        this.top = top;
+    }
+
+    public static Triplets of(long number) {
+        boolean negative = number < 0;
+        if (!negative)
+            number = -number; // work with negative, as Long.MIN_VALUE has no positive pair
+        int[] values = new int[7];
+        for (int pos = 0; number != 0; pos++) {
+            values[pos] = (int) -(number % 1000);
+            number /= 1000;
+        }
+        return new Triplets(negative, values);
+    }
+
+    // integer part of number
+    public static Triplets of(BigDecimal number) {
+        if (number.precision() - number.scale() <= 18)
+            return of(number.longValue());
+        String digits = number.setScale(0, RoundingMode.DOWN).unscaledValue().abs().toString();
+        int[] values = new int[(digits.length() + 2) / 3];
+        int end = digits.length();
+        for (int pos = 0; end > 0; pos++, end -= 3) {
+            int value = 0;
+            for (int i = Math.max(0, end - 3); i < end; i++) {
+                value = value * 10 + digits.charAt(i) - '0';
+            }
+            values[pos] = value;
+        }
+        return new Triplets(number.signum() < 0, values);
+    }
+}
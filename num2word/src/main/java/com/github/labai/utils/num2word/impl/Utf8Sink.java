@@ -0,0 +1,128 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Augustus, 2026.10.19
+ * writes words as UTF-8 bytes - directly to ByteBuffer,
+ * or to own (growing) byte array, which can be copied to OutputStream.
+ *
+ * Not thread safe, can be reused (reset) for many numbers.
+ */
+public final class Utf8Sink implements WordSink {
+    private final ByteBuffer buf;
+    private byte[] bytes;
+    private int len;
+
+    private boolean first = true;
+    private boolean capitalize = false;
+
+    // write to own byte array
+    public Utf8Sink() {
+        this.buf = null;
+        this.bytes = new byte[128];
+    }
+
+    // write to given buffer (throws BufferOverflowException if buffer is too small)
+    public Utf8Sink(ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    // prepare for new phrase. First word will be capitalized if 'capitalize' is true
+    public Utf8Sink reset(boolean capitalize) {
+        this.len = 0;
+        this.first = true;
+        this.capitalize = capitalize;
+        return this;
+    }
+
+    @Override
+    public void word(Word word) {
+        if (first) {
+            first = false;
+            put(capitalize ? word.capUtf8 : word.utf8);
+            return;
+        }
+        putByte((byte) ' ');
+        put(word.utf8);
+    }
+
+    @Override
+    public void suffix(Word word) {
+        put(word.utf8);
+    }
+
+    // write ascii chars (digits, punctuation)
+    public void ascii(CharSequence str) {
+        for (int i = 0; i < str.length(); i++) {
+            putByte((byte) str.charAt(i));
+        }
+    }
+
+    public void ascii(char ch) {
+        putByte((byte) ch);
+    }
+
+    // count of bytes written (to own byte array) after last reset
+    public int length() {
+        return len;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, len);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, len);
+    }
+
+    private void put(byte[] b) {
+        if (buf != null) {
+            buf.put(b);
+            return;
+        }
+        ensureCapacity(len + b.length);
+        System.arraycopy(b, 0, bytes, len, b.length);
+        len += b.length;
+    }
+
+    private void putByte(byte b) {
+        if (buf != null) {
+            buf.put(b);
+            return;
+        }
+        ensureCapacity(len + 1);
+        bytes[len++] = b;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+}
@@ -23,54 +23,32 @@ SOFTWARE.
 */
 package com.github.labai.utils.num2word.impl;
 
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * Augustus, 2023.10.29
  * for local usage only
  */
 class Utils {
 
-    static class Triplet {
-        final int value; // value
-        final int tripletPos; // triplet position in number
-        final int hund; // hundred's digit
-        final int tend; // ten's digit
-        final int oned; // one's digit
+    // writes words to StringBuilder, separated by space
+    static class StrSink implements WordSink {
+        private final StringBuilder sb;
+        private final int start;
 
-        public Triplet(int num, int tripletPos) {
-            this.tripletPos = tripletPos;
-            num = Math.abs(num) % 1000;
-            this.value = num;
-            this.oned = num % 10;
-            num /= 10;
-            this.tend = num % 10;
-            num /= 10;
-            this.hund = num % 10;
+        StrSink(StringBuilder sb) {
+            this.sb = sb;
+            this.start = sb.length();
         }
 
         @Override
-        public String toString() {
-            return hund + ":" + tend + ":" + oned;
+        public void word(Word word) {
+            if (sb.length() > start)
+                sb.append(' ');
+            sb.append(word.text);
         }
-    }
-
-    // a thousand groups with 3 sub-thousand digits in each
-    // 2_000_111 -> 0:0:2, 0:0:0, 1:1:1
-    static List<Triplet> groupTriplets(long number) {
-        int numDigits = String.valueOf(number).length();
-        int grpNum = (numDigits - 1) / 3 + 1;
 
-        Triplet[] res = new Triplet[grpNum];
-
-        int i = 0;
-        while (i < grpNum) {
-            int subk = (int) (number % 1000);
-            number = number / 1000;
-            res[grpNum - i - 1] = new Triplet(subk, i);
-            i++;
+        @Override
+        public void suffix(Word word) {
+            sb.append(word.text);
         }
-        return Arrays.asList(res);
     }
 }
@@ -0,0 +1,52 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.impl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Augustus, 2026.10.19
+ * word fragment with pre-encoded UTF-8 bytes
+ */
+final class Word {
+    final String text;
+    final byte[] utf8;
+    final byte[] capUtf8; // capitalized (first word of sentence)
+
+    private Word(String text) {
+        this.text = text;
+        this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+        String cap = text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+        this.capUtf8 = cap.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Word of(String text) {
+        return new Word(text);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+The MIT License (MIT)
+
+Copyright (c) 2023 Augustus
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+*/
+package com.github.labai.utils.num2word.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Augustus, 2026.10.19
+ * words to number parser (inverse of number to words).
+ *
+ * Vocabulary of language is compiled to trie, input is scanned once,
+ * char by char (case insensitive), without splitting to words.
+ */
+public final class WordsParser {
+    static final int NONE = 0;
+    static final int ZERO = 1;     // 'zero'
+    static final int MINUS = 2;    // 'minus'
+    static final int UNIT = 3;     // 1..99 - ones, teens, tens
+    static final int HUNDREDS = 4; // 100..900 - e.g. 'šimtas', 'двести'
+    static final int HUNDRED = 5;  // multiplier - e.g. 'hundred' in 'two hundred'
+    static final int SCALE = 6;    // 'thousand', 'million', ...
+
+    // trie: node children are in childChars/childNodes[childStart[node]..childStart[node+1])
+    private final int[] childStart;
+    private final char[] childChars;
+    private final int[] childNodes;
+    private final byte[] kind;
+    private final int[] value;
+
+    private WordsParser(int[] childStart, char[] childChars, int[] childNodes, byte[] kind, int[] value) {
+        this.childStart = childStart;
+        this.childChars = childChars;
+        this.childNodes = childNodes;
+        this.kind = kind;
+        this.value = value;
+    }
+
+    public long parse(CharSequence words) {
+        return parse(words, 0, words.length());
+    }
+
+    // throws IllegalArgumentException if can't parse
+    public long parse(CharSequence words, int start, int end) {
+        long total = 0;
+        int current = 0;      // value of current triplet (0..999)
+        int lastScale = Integer.MAX_VALUE;
+        boolean negative = false;
+        boolean zero = false;
+        int count = 0;        // count of words
+
+        int i = start;
+        while (i < end) {
+            char ch = words.charAt(i);
+            if (isSeparator(ch)) {
+                i++;
+                continue;
+            }
+            // walk trie till end of word
+            int wordStart = i;
+            int node = 0;
+            while (i < end && !isSeparator(ch = words.charAt(i))) {
+                node = node < 0 ? -1 : child(node, Character.toLowerCase(ch));
+                i++;
+            }
+            if (node < 0 || kind[node] == NONE)
+                throw error("Unknown word '" + words.subSequence(wordStart, i) + "'", words, start, end);
+
+            int val = value[node];
+            switch (kind[node]) {
+                case ZERO:
+                    zero = true;
+                    break;
+                case MINUS:
+                    if (count > 0)
+                        throw error("Unexpected minus", words, start, end);
+                    negative = true;
+                    break;
+                case UNIT:
+                    int rest = current % 100;
+                    if (val < 10 ? (rest != 0 && (rest < 20 || rest % 10 != 0)) : rest != 0)
+                        throw error("Unexpected '" + words.subSequence(wordStart, i) + "'", words, start, end);
+                    current += val;
+                    break;
+                case HUNDREDS:
+                    if (current != 0)
+                        throw error("Unexpected '" + words.subSequence(wordStart, i) + "'", words, start, end);
+                    current = val;
+                    break;
+                case HUNDRED:
+                    if (current < 1 || current > 9)
+                        throw error("Unexpected '" + words.subSequence(wordStart, i) + "'", words, start, end);
+                    current *= 100;
+                    break;
+                case SCALE:
+                    if (val >= lastScale)
+                        throw error("Unexpected '" + words.subSequence(wordStart, i) + "'", words, start, end);
+                    lastScale = val;
+                    long mult = 1;
+                    for (int k = 0; k < val; k++) {
+                        mult *= 1000;
+                    }
+                    try {
+                        total = Math.addExact(total, Math.multiplyExact(current == 0 ? 1 : current, mult));
+                    } catch (ArithmeticException e) {
+                        throw error("Number is too big", words, start, end);
+                    }
+                    current = 0;
+                    break;
+                default:
+                    throw new IllegalStateException("Invalid token kind " + kind[node]);
+            }
+            count++;
+            if (zero && count > (negative ? 2 : 1))
+                throw error("Unexpected words after zero", words, start, end);
+        }
+        if (count == 0 || (negative && count == 1))
+            throw error("No number", words, start, end);
+        try {
+            // Long.MIN_VALUE has no positive counterpart - negate before last triplet
+            return negative ? Math.subtractExact(-total, current) : Math.addExact(total, current);
+        } catch (ArithmeticException e) {
+            throw error("Number is too big", words, start, end);
+        }
+    }
+
+    private int child(int node, char ch) {
+        for (int k = childStart[node]; k < childStart[node + 1]; k++) {
+            if (childChars[k] == ch)
+                return childNodes[k];
+        }
+        return -1;
+    }
+
+    private static boolean isSeparator(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r' || ch == '\u00a0' || ch == '-' || ch == ',';
+    }
+
+    private static IllegalArgumentException error(String msg, CharSequence words, int start, int end) {
+        return new IllegalArgumentException(msg + " in '" + words.subSequence(start, end) + "'");
+    }
+
+    /**
+     * collects vocabulary of language
+     */
+    static class Builder {
+        private final List<String> texts = new ArrayList<>();
+        private final List<int[]> tokens = new ArrayList<>();
+
+        Builder add(String text, int kind, int value) {
+            if (text.isEmpty() || (kind == UNIT && value == 0))
+                return this;
+            texts.add(text.toLowerCase());
+            tokens.add(new int[]{kind, value});
+            return this;
+        }
+
+        WordsParser build() {
+            // build pointer trie, then flatten to arrays (children in CSR form)
+            List<List<int[]>> children = new ArrayList<>(); // [char, node]
+            List<int[]> nodeTokens = new ArrayList<>();
+            children.add(new ArrayList<>());
+            nodeTokens.add(null);
+            for (int t = 0; t < texts.size(); t++) {
+                String text = texts.get(t);
+                int node = 0;
+                for (int i = 0; i < text.length(); i++) {
+                    char ch = text.charAt(i);
+                    int next = -1;
+                    for (int[] c : children.get(node)) {
+                        if (c[0] == ch)
+                            next = c[1];
+                    }
+                    if (next < 0) {
+                        next = children.size();
+                        children.add(new ArrayList<>());
+                        nodeTokens.add(null);
+                        children.get(node).add(new int[]{ch, next});
+                    }
+                    node = next;
+                }
+                int[] prev = nodeTokens.get(node);
+                if (prev != null && !Arrays.equals(prev, tokens.get(t)))
+                    throw new IllegalStateException("Ambiguous word '" + text + "'");
+                nodeTokens.set(node, tokens.get(t));
+            }
+
+            int n = children.size();
+            int[] childStart = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                childStart[i + 1] = childStart[i] + children.get(i).size();
+            }
+            char[] childChars = new char[childStart[n]];
+            int[] childNodes = new int[childStart[n]];
+            byte[] kind = new byte[n];
+            int[] value = new int[n];
+            for (int i = 0; i < n; i++) {
+                int k = childStart[i];
+                for (int[] c : children.get(i)) {
+                    childChars[k] = (char) c[0];
+                    childNodes[k] = c[1];
+                    k++;
+                }
+                if (nodeTokens.get(i) != null) {
+                    kind[i] = (byte) nodeTokens.get(i)[0];
+                    value[i] = nodeTokens.get(i)[1];
+                }
+            }
+            return new WordsParser(childStart, childChars, childNodes, kind, value);
+        }
+    }
+}
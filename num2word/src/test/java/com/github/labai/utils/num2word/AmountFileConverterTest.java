@@ -0,0 +1,87 @@
+package com.github.labai.utils.num2word;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ */
+class AmountFileConverterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testConvert() throws IOException {
+        String input = "id;amount;note\n"
+            + "1;101.75;a\r\n"
+            + "2;0.251;b\n"
+            + "\n"
+            + "3;\"-12.5\";c\n"
+            + "4; 2000 ;d\n"
+            + "5;0.999;e\n"
+            + "6;.5;f";
+        String expected = "id;amount;note;words\n"
+            + "1;101.75;a;Šimtas vienas .75\r\n"
+            + "2;0.251;b;Nulis .25\n"
+            + "\n"
+            + "3;\"-12.5\";c;Minus dvylika .-50\n"
+            + "4; 2000 ;d;Du tūkstančiai .0\n"
+            + "5;0.999;e;Nulis .100\n"
+            + "6;.5;f;Nulis .50";
+        AmountFileConverter converter = new AmountFileConverter("lt", 1, ';', true);
+        assertEquals(expected, convert(converter, input, 6));
+    }
+
+    @Test
+    void testSameAsAmountToWords() throws IOException {
+        Random random = new Random(42);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt() / (1 + random.nextInt(1000)), random.nextInt(4));
+            String line = i + "," + amount.toPlainString() + ",some longer text to make lines longer than small buffer " + i;
+            input.append(line).append('\n');
+            expected.append(line).append(',').append(NumberToWordsConverter.amountToWords(amount, "ru")).append('\n');
+        }
+        // small buffer - lines span over buffer boundary, buffer grows for longer lines
+        AmountFileConverter converter = new AmountFileConverter("ru", 1, ',', false, 64);
+        assertEquals(expected.toString(), convert(converter, input.toString(), 5000));
+    }
+
+    @Test
+    void testBigAmount() throws IOException {
+        String input = "1,12345678901234567890.155\n2,-999999999999999999\n";
+        String expected = "1,12345678901234567890.155," + NumberToWordsConverter.amountToWords(new BigDecimal("12345678901234567890.155"), "en") + "\n"
+            + "2,-999999999999999999," + NumberToWordsConverter.amountToWords(new BigDecimal("-999999999999999999"), "en") + "\n";
+        AmountFileConverter converter = new AmountFileConverter("en", 1, ',', false);
+        assertEquals(expected, convert(converter, input, 2));
+    }
+
+    @Test
+    void testInvalidAmount() {
+        AmountFileConverter converter = new AmountFileConverter("en", 1, ',', false);
+        assertThrows(IllegalArgumentException.class, () -> convert(converter, "1,12a\n", 0));
+        assertThrows(IllegalArgumentException.class, () -> convert(converter, "1,-\n", 0));
+        assertThrows(IllegalArgumentException.class, () -> convert(converter, "1\n", 0));
+    }
+
+    private String convert(AmountFileConverter converter, String input, long expectedRows) throws IOException {
+        Path in = tempDir.resolve("in.csv");
+        Path out = tempDir.resolve("out.csv");
+        Files.write(in, input.getBytes(StandardCharsets.UTF_8));
+        assertEquals(expectedRows, converter.convert(in, out));
+        return new String(Files.readAllBytes(out), StandardCharsets.UTF_8);
+    }
+}
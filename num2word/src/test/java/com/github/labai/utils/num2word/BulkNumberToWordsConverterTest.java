@@ -0,0 +1,77 @@
+package com.github.labai.utils.num2word;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ */
+class BulkNumberToWordsConverterTest {
+    private static final String[] LANGS = {"en", "lt", "lv", "et", "ru"};
+
+    @Test
+    void testSmallInputIsSameAsSingle() {
+        long[] numbers = {0, 1, -15, 101, 1_002_101, 999_999_999};
+        for (String lang : LANGS) {
+            String[] res = BulkNumberToWordsConverter.numbersToWords(numbers, lang);
+            for (int i = 0; i < numbers.length; i++) {
+                assertEquals(NumberToWordsConverter.numberToWords(numbers[i], lang), res[i]);
+            }
+        }
+    }
+
+    @Test
+    void testParallelIsSameAsSingle() {
+        Random random = new Random(42);
+        long[] numbers = new long[BulkNumberToWordsConverter.PARALLEL_THRESHOLD * 3 + 17];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = random.nextInt() / (1 + random.nextInt(1000));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (String lang : LANGS) {
+                String[] res = BulkNumberToWordsConverter.numbersToWords(numbers, lang, pool);
+                String[] expected = LongStream.of(numbers).mapToObj(n -> NumberToWordsConverter.numberToWords(n, lang)).toArray(String[]::new);
+                assertArrayEquals(expected, res);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testAmounts() {
+        Random random = new Random(42);
+        BigDecimal[] amounts = new BigDecimal[BulkNumberToWordsConverter.PARALLEL_THRESHOLD + 1];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+        }
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            String[] res = BulkNumberToWordsConverter.amountsToWords(amounts, "lt", pool);
+            for (int i = 0; i < amounts.length; i++) {
+                assertEquals(NumberToWordsConverter.amountToWords(amounts[i], "lt"), res[i]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        String[] res = BulkNumberToWordsConverter.amountsToWords(Stream.of(new BigDecimal("101.75"), new BigDecimal("0.251")), "lt");
+        assertArrayEquals(new String[]{"Šimtas vienas .75", "Nulis .25"}, res);
+    }
+
+    @Test
+    void testSink() {
+        StringBuilder all = new StringBuilder();
+        BulkNumberToWordsConverter.numbersToWords(new long[]{1, 2, 3}, "en", (i, words) -> all.append(i).append('=').append(words).append(';'));
+        assertEquals("0=one;1=two;2=three;", all.toString());
+    }
+}
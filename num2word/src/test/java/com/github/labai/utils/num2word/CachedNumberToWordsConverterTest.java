@@ -0,0 +1,94 @@
+package com.github.labai.utils.num2word;
+
+import com.github.labai.utils.num2word.CachedNumberToWordsConverter.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ */
+class CachedNumberToWordsConverterTest {
+
+    @Test
+    void testSameAsNotCached() {
+        CachedNumberToWordsConverter conv = new CachedNumberToWordsConverter("lt", 100);
+        for (int round = 0; round < 2; round++) {
+            for (long n = -500; n < 500; n++) {
+                assertEquals(NumberToWordsConverter.numberToWords(n, "lt"), conv.numberToWords(n));
+            }
+        }
+        assertEquals("Šimtas vienas .75", conv.amountToWords(new BigDecimal("101.75")));
+        assertEquals("Šimtas vienas .75", conv.amountToWords(new BigDecimal("101.75")));
+        assertEquals("Nulis .25", conv.amountToWords(new BigDecimal("0.251")));
+        // number and amount with same hash are different keys
+        assertEquals("šimtas vienas", conv.numberToWords(101));
+    }
+
+    @Test
+    void testStatsAndBound() {
+        CachedNumberToWordsConverter conv = new CachedNumberToWordsConverter("en", 20);
+        assertEquals(24, conv.capacity());
+        conv.numberToWords(1);
+        conv.numberToWords(1);
+        conv.numberToWords(2);
+        CacheStats stats = conv.stats();
+        assertEquals(1, stats.hits);
+        assertEquals(2, stats.misses);
+        assertEquals(0, stats.evictions);
+
+        for (long n = 0; n < 1000; n++) {
+            conv.numberToWords(n);
+        }
+        stats = conv.stats();
+        assertTrue(stats.evictions >= 1000 - conv.capacity(), "evictions=" + stats.evictions);
+    }
+
+    @Test
+    void testHotValuesStay() {
+        CachedNumberToWordsConverter conv = new CachedNumberToWordsConverter("en", 64);
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            long n = i % 2 == 0 ? random.nextInt(8) : 1000 + random.nextInt(1_000_000);
+            conv.numberToWords(n);
+        }
+        // hot values (0..7) are hit almost always, others almost never
+        assertTrue(conv.stats().hitRate() > 0.45, "hitRate=" + conv.stats().hitRate());
+    }
+
+    @Test
+    void testConcurrent() throws Exception {
+        CachedNumberToWordsConverter conv = new CachedNumberToWordsConverter("ru", 128);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 20_000; i++) {
+                        long n = random.nextInt(1000);
+                        assertEquals(NumberToWordsConverter.numberToWords(n, "ru"), conv.numberToWords(n));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        CacheStats stats = conv.stats();
+        assertEquals(80_000, stats.hits + stats.misses);
+    }
+}
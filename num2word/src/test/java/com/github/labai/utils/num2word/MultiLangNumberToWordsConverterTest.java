@@ -0,0 +1,45 @@
+package com.github.labai.utils.num2word;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ */
+class MultiLangNumberToWordsConverterTest {
+    private static final String[] LANGS = {"en", "lt", "lv", "et", "ru"};
+
+    @Test
+    void testSameAsSingleLang() {
+        MultiLangNumberToWordsConverter converter = new MultiLangNumberToWordsConverter(LANGS);
+        Random random = new Random(42);
+        for (int i = 0; i < 3000; i++) {
+            long num = i < 1000 ? i - 500 : i < 1002 ? (i == 1000 ? Long.MIN_VALUE : Long.MAX_VALUE) : random.nextLong() >> random.nextInt(63);
+            BigDecimal amount = i % 3 == 0
+                ? new BigDecimal(BigInteger.valueOf(num).multiply(BigInteger.valueOf(1000 + random.nextInt(1000))), 2)
+                : BigDecimal.valueOf(num, random.nextInt(4));
+            String[] numbers = converter.numberToWords(num);
+            String[] amounts = converter.amountToWords(amount);
+            for (int k = 0; k < LANGS.length; k++) {
+                assertEquals(NumberToWordsConverter.numberToWords(num, LANGS[k]), numbers[k]);
+                assertEquals(NumberToWordsConverter.amountToWords(amount, LANGS[k]), amounts[k]);
+            }
+        }
+    }
+
+    @Test
+    void testAmountToWords() {
+        MultiLangNumberToWordsConverter converter = new MultiLangNumberToWordsConverter("lt", "en");
+        assertArrayEquals(new String[]{"Šimtas vienas .75", "One hundred one .75"}, converter.amountToWords(new BigDecimal("101.75")));
+        assertEquals("Nulis .25 / Zero .25", converter.amountToWords(new BigDecimal("0.251"), " / "));
+        assertThrows(IllegalArgumentException.class, () -> new MultiLangNumberToWordsConverter("lt", "xx"));
+    }
+}
@@ -3,13 +3,18 @@ package com.github.labai.utils.num2word;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Augustus
- * created on 2023.10.29
+ * created on 2026.10.19
  */
 class NumberToWordsConverterTest {
     @Test
@@ -18,4 +23,54 @@ class NumberToWordsConverterTest {
         assertEquals("Nulis .25", NumberToWordsConverter.amountToWords(new BigDecimal("0.25"), "lt"));
         assertEquals("Nulis .25", NumberToWordsConverter.amountToWords(new BigDecimal("0.251"), "lt"));
     }
+
+    @Test
+    void testBigNumbers() {
+        for (String lang : new String[]{"en", "lt", "lv", "et", "ru"}) {
+            for (long num : new long[]{Long.MIN_VALUE, Long.MAX_VALUE, -1_000_001, 0, 7, 1_000_000_000_000_000L}) {
+                assertEquals(NumberToWordsConverter.numberToWords(num, lang), NumberToWordsConverter.numberToWords(BigInteger.valueOf(num), lang));
+            }
+        }
+        assertEquals("minus devyni kvintilijonai du šimtai dvidešimt trys kvadrilijonai trys šimtai septyniasdešimt du trilijonai trisdešimt šeši milijardai aštuoni šimtai penkiasdešimt keturi milijonai septyni šimtai septyniasdešimt penki tūkstančiai aštuoni šimtai aštuoni",
+            NumberToWordsConverter.numberToWords(Long.MIN_VALUE, "lt"));
+        assertEquals("one sixtillion two", NumberToWordsConverter.numberToWords(new BigInteger("1000000000000000000002"), "en"));
+        assertEquals("девятьсот девяносто девять нониллионов", NumberToWordsConverter.numberToWords(new BigInteger("999").multiply(BigInteger.TEN.pow(30)), "ru"));
+        assertThrows(IllegalArgumentException.class, () -> NumberToWordsConverter.numberToWords(BigInteger.TEN.pow(33), "en"));
+    }
+
+    @Test
+    void testDecimalToWords() {
+        assertEquals("minus twelve point zero five", NumberToWordsConverter.numberToWords(new BigDecimal("-12.05"), "en"));
+        assertEquals("zero point zero zero seven", NumberToWordsConverter.numberToWords(new BigDecimal("0.007"), "en"));
+        assertEquals("one thousand", NumberToWordsConverter.numberToWords(new BigDecimal("1E+3"), "en"));
+        assertEquals("vienas kablelis penki nulis", NumberToWordsConverter.numberToWords(new BigDecimal("1.50"), "lt"));
+        assertEquals("kakssada üks koma üks", NumberToWordsConverter.numberToWords(new BigDecimal("201.1"), "et"));
+    }
+
+    @Test
+    void testBigAmountToWords() {
+        assertEquals("Dvylika kvintilijonų trys šimtai keturiasdešimt penki kvadrilijonai šeši šimtai septyniasdešimt aštuoni trilijonai devyni šimtai vienas milijardas du šimtai trisdešimt keturi milijonai penki šimtai šešiasdešimt septyni tūkstančiai aštuoni šimtai devyniasdešimt .15",
+            NumberToWordsConverter.amountToWords(new BigDecimal("12345678901234567890.15"), "lt"));
+        assertEquals(NumberToWordsConverter.numberToWords(new BigInteger("-99999999999999999999"), "en").replace("minus", "Minus") + " .-99",
+            NumberToWordsConverter.amountToWords(new BigDecimal("-99999999999999999999.99"), "en"));
+    }
+
+    @Test
+    void testLazyWords() throws IOException {
+        for (String lang : new String[]{"en", "lt", "lv", "et", "ru"}) {
+            for (long num : new long[]{Long.MIN_VALUE, -1_000_001, 0, 7, 201, 1_000_000_000_000_000L}) {
+                String expected = NumberToWordsConverter.numberToWords(num, lang);
+                assertEquals(expected.length(), NumberToWordsConverter.numberToWordsLazy(num, lang).length());
+                assertEquals("[" + expected + "]", NumberToWordsConverter.numberToWordsLazy(num, lang).appendTo(new StringBuilder("[")).append(']').toString());
+                StringWriter writer = new StringWriter();
+                NumberToWordsConverter.numberToWordsLazy(num, lang).writeTo(writer);
+                assertEquals(expected, writer.toString());
+                assertEquals(expected, NumberToWordsConverter.numberToWordsLazy(num, lang).toString());
+            }
+        }
+        CharSequence words = NumberToWordsConverter.numberToWordsLazy(123, "en");
+        assertEquals('h', words.charAt(4));
+        assertEquals("hundred", words.subSequence(4, 11).toString());
+        assertSame(words.toString(), words.toString());
+    }
 }
@@ -0,0 +1,75 @@
+package com.github.labai.utils.num2word;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ */
+class Utf8NumberToWordsWriterTest {
+    private static final String[] LANGS = {"en", "lt", "lv", "et", "ru"};
+
+    @Test
+    void testSameAsString() throws IOException {
+        Random random = new Random(42);
+        for (String lang : LANGS) {
+            Utf8NumberToWordsWriter writer = new Utf8NumberToWordsWriter(lang);
+            ByteBuffer buf = ByteBuffer.allocate(1024);
+            for (int i = 0; i < 2000; i++) {
+                long num = i < 1000 ? i - 500 : random.nextInt();
+                byte[] expected = NumberToWordsConverter.numberToWords(num, lang).getBytes(StandardCharsets.UTF_8);
+
+                buf.clear();
+                writer.writeNumber(num, buf);
+                assertArrayEquals(expected, toArray(buf));
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                writer.writeNumber(num, out);
+                assertArrayEquals(expected, out.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    void testAmount() throws IOException {
+        Utf8NumberToWordsWriter writer = new Utf8NumberToWordsWriter("lt");
+        ByteBuffer buf = ByteBuffer.allocate(256);
+        writer.writeAmount(new BigDecimal("101.75"), buf);
+        assertEquals("Šimtas vienas .75", new String(toArray(buf), StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeAmount(new BigDecimal("0.251"), out);
+        writer.writeAmount(new BigDecimal("2000"), out);
+        assertEquals("Nulis .25Du tūkstančiai .0", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        Utf8NumberToWordsWriter writerRu = new Utf8NumberToWordsWriter("ru");
+        out.reset();
+        writerRu.writeAmount(new BigDecimal("1001.01"), out);
+        assertEquals(NumberToWordsConverter.amountToWords(new BigDecimal("1001.01"), "ru"), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testBufferOverflow() {
+        Utf8NumberToWordsWriter writer = new Utf8NumberToWordsWriter("en");
+        assertThrows(BufferOverflowException.class, () -> writer.writeNumber(123456, ByteBuffer.allocate(10)));
+    }
+
+    private static byte[] toArray(ByteBuffer buf) {
+        buf.flip();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return bytes;
+    }
+}
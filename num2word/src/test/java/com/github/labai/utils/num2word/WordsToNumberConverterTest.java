@@ -0,0 +1,91 @@
+package com.github.labai.utils.num2word;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Augustus
+ * created on 2026.10.19
+ */
+class WordsToNumberConverterTest {
+    private static final String[] LANGS = {"en", "lt", "lv", "et", "ru"};
+
+    @Test
+    void testWordsToNumber() {
+        assertEquals(123, WordsToNumberConverter.wordsToNumber("one hundred twenty three", "en"));
+        assertEquals(123, WordsToNumberConverter.wordsToNumber("One Hundred  Twenty-Three", "en"));
+        assertEquals(1_002_101, WordsToNumberConverter.wordsToNumber("vienas milijonas du tūkstančiai šimtas vienas", "lt"));
+        assertEquals(1000, WordsToNumberConverter.wordsToNumber("tūkstantis", "lt"));
+        assertEquals(-1_002_101, WordsToNumberConverter.wordsToNumber("минус один миллион две тысячи сто один", "ru"));
+        assertEquals(0, WordsToNumberConverter.wordsToNumber("nulle", "lv"));
+    }
+
+    @Test
+    void testRoundTripSmall() {
+        for (String lang : LANGS) {
+            for (long n = -2000; n <= 20_000; n++) {
+                assertEquals(n, WordsToNumberConverter.wordsToNumber(NumberToWordsConverter.numberToWords(n, lang), lang), lang);
+            }
+        }
+    }
+
+    @Test
+    void testRoundTripRandom() {
+        Random random = new Random(42);
+        for (String lang : LANGS) {
+            for (int i = 0; i < 100_000; i++) {
+                long n = random.nextLong() / (1L << random.nextInt(64));
+                assertEquals(n, WordsToNumberConverter.wordsToNumber(NumberToWordsConverter.numberToWords(n, lang), lang), lang);
+            }
+            assertEquals(Long.MAX_VALUE, WordsToNumberConverter.wordsToNumber(NumberToWordsConverter.numberToWords(Long.MAX_VALUE, lang), lang), lang);
+        }
+    }
+
+    @Test
+    void testWordsToAmount() {
+        assertEquals(new BigDecimal("101.75"), WordsToNumberConverter.wordsToAmount("Šimtas vienas .75", "lt"));
+        Random random = new Random(42);
+        for (String lang : LANGS) {
+            for (int i = 0; i < 20_000; i++) {
+                BigDecimal amount = BigDecimal.valueOf(random.nextInt(), 2);
+                assertEquals(amount, WordsToNumberConverter.wordsToAmount(NumberToWordsConverter.amountToWords(amount, lang), lang), lang);
+            }
+        }
+    }
+
+    @Test
+    void testLongBounds() {
+        String max = NumberToWordsConverter.numberToWords(Long.MAX_VALUE, "en");
+        String maxPlusOne = max.replaceAll("seven$", "eight");
+        assertEquals(Long.MAX_VALUE, WordsToNumberConverter.wordsToNumber(max, "en"));
+        assertEquals(Long.MIN_VALUE, WordsToNumberConverter.wordsToNumber("minus " + maxPlusOne, "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber(maxPlusOne, "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("minus " + max.replaceAll("seven$", "nine"), "en"));
+
+        assertEquals(new BigDecimal("9223372036854775807.99"), WordsToNumberConverter.wordsToAmount(max + " .99", "en"));
+        assertEquals(new BigDecimal("-9223372036854775808.99"), WordsToNumberConverter.wordsToAmount("minus " + maxPlusOne + " .-99", "en"));
+        assertEquals(new BigDecimal("123456789012345678.45"), WordsToNumberConverter.wordsToAmount(NumberToWordsConverter.amountToWords(new BigDecimal("123456789012345678.45"), "en"), "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToAmount(maxPlusOne + " .00", "en"));
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("minus", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("one two", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("eleven one", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("thousand million", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("one hundredd", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("zero one", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("one minus", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("ten quintillion", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToAmount("one", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToAmount("one .x5", "en"));
+        assertThrows(IllegalArgumentException.class, () -> WordsToNumberConverter.wordsToNumber("one", "xx"));
+    }
+}
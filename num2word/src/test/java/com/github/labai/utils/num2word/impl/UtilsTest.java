@@ -1,10 +1,8 @@
 package com.github.labai.utils.num2word.impl;
 
-import com.github.labai.utils.num2word.impl.Utils.Triplet;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -23,11 +21,19 @@ class UtilsTest {
         assertTriplet("0:0:1,0:0:0", 1000);
         assertTriplet("0:0:1,0:0:0,0:0:1", 1_000_001);
         assertTriplet("0:0:2,0:0:0,1:1:1", 2_000_111);
+        assertTriplet("0:0:2,0:0:0,1:1:1", -2_000_111);
+        assertTriplet("0:0:9,2:2:3,3:7:2,0:3:6,8:5:4,7:7:5,8:0:8", Long.MIN_VALUE);
     }
 
-    private void assertTriplet(String expected, Number number) {
-        List<Triplet> triplets = Utils.groupTriplets(number.longValue());
-        String str = triplets.stream().map(Triplet::toString).collect(Collectors.joining(","));
-        assertEquals(expected, str);
+    // hundreds:tens:ones of triplets, highest first
+    private void assertTriplet(String expected, long number) {
+        Triplets triplets = Triplets.of(number);
+        StringJoiner str = new StringJoiner(",");
+        for (int pos = Math.max(triplets.top, 0); pos >= 0; pos--) {
+            int value = triplets.values[pos];
+            str.add(value / 100 + ":" + value / 10 % 10 + ":" + value % 10);
+        }
+        assertEquals(expected, str.toString());
+        assertEquals(number < 0, triplets.negative);
     }
 }